@@ -0,0 +1,69 @@
+package project.core.benchmark;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import project.core.constants.CommonHttpStatusEnum;
+import project.core.exception.BaseException;
+import project.core.utils.ResponseUtil;
+import project.core.utils.ResultUtil;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 基准测试使用的接口：成功、参数校验失败、业务异常、空指针、下载
+ *
+ * @author tanwei
+ * @date 2026-10-19 11:40
+ **/
+@RestController
+@RequestMapping("/bench")
+public class BenchmarkController {
+
+    private static final List<Map<String, Object>> ROWS = new ArrayList<>(20);
+
+    private static final byte[] FILE = new byte[64 * 1024];
+
+    static {
+        for (int i = 0; i < 20; i++) {
+            Map<String, Object> row = new LinkedHashMap<>(8);
+            row.put("id", 10000L + i);
+            row.put("name", "用户" + i);
+            row.put("enabled", i % 2 == 0);
+            ROWS.add(row);
+        }
+    }
+
+    @GetMapping("/ok")
+    public ResultUtil<List<Map<String, Object>>> ok() {
+        return ResultUtil.success(ROWS);
+    }
+
+    @GetMapping("/valid")
+    public ResultUtil<Integer> valid(@RequestParam Integer id) {
+        return ResultUtil.success(id);
+    }
+
+    @GetMapping("/business")
+    public ResultUtil<Void> business() {
+        throw new BaseException(CommonHttpStatusEnum.DEFAULT_BUSINESS_EXCEPTION);
+    }
+
+    @GetMapping("/npe")
+    public ResultUtil<Void> npe() {
+        throw new NullPointerException("benchmark");
+    }
+
+    @GetMapping("/download")
+    public void download(HttpServletResponse response) throws IOException {
+        ResponseUtil.setDownHeader(response, "benchmark.bin");
+        response.setContentLength(FILE.length);
+        response.getOutputStream().write(FILE);
+    }
+}
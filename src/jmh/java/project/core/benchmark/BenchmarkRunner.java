@@ -0,0 +1,157 @@
+package project.core.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 运行基准测试并与基线比较
+ * <p>
+ * 参数：包含的基准（正则）、结果文件、基线文件、允许的退化比例、fork数、是否记录基线。
+ * 基线记录本次的得分和误差（99.9%置信区间），只在 -Dbenchmark.record=true 时写入；基线不存在时失败。
+ * 得分变差超过阈值，且本次与基线的置信区间不重叠时判定为退化，以非0退出使构建失败，避免把运行间的抖动当成退化。
+ * 基线与机器相关，需在固定的机器上记录并提交
+ *
+ * @author tanwei
+ * @date 2026-10-19 11:00
+ **/
+public class BenchmarkRunner {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    public static void main(String[] args) throws Exception {
+        String include = args.length > 0 ? args[0] : "project.core.*";
+        String result = args.length > 1 ? args[1] : "target/jmh-result.json";
+        File baselineFile = new File(args.length > 2 ? args[2] : "src/jmh/resources/benchmark-baseline.json");
+        double threshold = args.length > 3 ? Double.parseDouble(args[3]) : 0.10;
+        int forks = args.length > 4 ? Integer.parseInt(args[4]) : 3;
+        boolean record = args.length > 5 && Boolean.parseBoolean(args[5]);
+
+        if (!record && !baselineFile.exists()) {
+            System.err.println("基线 " + baselineFile.getPath() + " 不存在，请在基准机器上以 -Dbenchmark.record=true 记录并提交");
+            System.exit(1);
+        }
+
+        Options options = new OptionsBuilder()
+                .include(include)
+                .forks(forks)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result)
+                .build();
+        Collection<RunResult> results = new Runner(options).run();
+
+        Map<String, Score> scores = new TreeMap<>();
+        for (RunResult runResult : results) {
+            Result<?> primary = runResult.getPrimaryResult();
+            double error = primary.getScoreError();
+            scores.put(name(runResult), new Score(primary.getScore(), Double.isNaN(error) ? 0 : error,
+                    runResult.getParams().getMode() == Mode.Throughput));
+        }
+
+        if (record) {
+            OBJECT_MAPPER.writeValue(baselineFile, scores);
+            System.out.println("已记录基线 " + baselineFile.getPath());
+            return;
+        }
+
+        Map<String, Score> baseline = OBJECT_MAPPER.readValue(baselineFile, new TypeReference<Map<String, Score>>() {
+        });
+        List<String> regressions = new ArrayList<>();
+        scores.forEach((name, score) -> {
+            Score base = baseline.get(name);
+            if (base == null || base.getScore() == 0) {
+                System.out.println("基线中没有 " + name + "，跳过");
+                return;
+            }
+            // 吞吐量越大越好，其它模式为耗时，越小越好
+            double change = score.isHigherBetter()
+                    ? (base.getScore() - score.getScore()) / base.getScore()
+                    : (score.getScore() - base.getScore()) / base.getScore();
+            // 置信区间重叠时差异不显著
+            boolean significant = score.isHigherBetter()
+                    ? score.getScore() + score.getError() < base.getScore() - base.getError()
+                    : score.getScore() - score.getError() > base.getScore() + base.getError();
+            if (change > threshold && significant) {
+                regressions.add(String.format("%s 基线 %.3f ± %.3f 本次 %.3f ± %.3f 退化 %.1f%%", name,
+                        base.getScore(), base.getError(), score.getScore(), score.getError(), change * 100));
+            }
+        });
+
+        if (!regressions.isEmpty()) {
+            System.err.println("以下基准退化超过 " + threshold * 100 + "%：");
+            regressions.forEach(System.err::println);
+            System.exit(1);
+        }
+        System.out.println("全部基准在基线 " + threshold * 100 + "% 以内");
+    }
+
+    /**
+     * 基准名称 + 参数，如 project.core.utils.ResponseUtilBenchmark.encode:agent=firefox
+     */
+    private static String name(RunResult runResult) {
+        StringBuilder name = new StringBuilder(runResult.getParams().getBenchmark());
+        for (String key : runResult.getParams().getParamsKeys()) {
+            name.append(':').append(key).append('=').append(runResult.getParams().getParam(key));
+        }
+        return name.toString();
+    }
+
+    /**
+     * 得分和误差
+     */
+    public static class Score {
+
+        private double score;
+
+        private double error;
+
+        private boolean higherBetter;
+
+        public Score() {
+        }
+
+        Score(double score, double error, boolean higherBetter) {
+            this.score = score;
+            this.error = error;
+            this.higherBetter = higherBetter;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public void setScore(double score) {
+            this.score = score;
+        }
+
+        public double getError() {
+            return error;
+        }
+
+        public void setError(double error) {
+            this.error = error;
+        }
+
+        public boolean isHigherBetter() {
+            return higherBetter;
+        }
+
+        public void setHigherBetter(boolean higherBetter) {
+            this.higherBetter = higherBetter;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package project.core.benchmark.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 基于JDK HttpClient的压测客户端
+ * <p>
+ * 闭环：固定并发，每个连接收到响应后立即发下一个，按预期间隔补偿协调遗漏（coordinated omission）；
+ * 开环：按固定速率计划发送时间，延迟从计划时间算起，服务端变慢时排队的时间同样计入
+ *
+ * @author tanwei
+ * @date 2026-10-19 12:20
+ **/
+public class LoadGenerator {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+
+    private final Map<RequestType, HttpRequest> requests = new EnumMap<>(RequestType.class);
+
+    private final Map<RequestType, Recorder> recorders = new EnumMap<>(RequestType.class);
+
+    private final Map<RequestType, LongAdder> errors = new EnumMap<>(RequestType.class);
+
+    public LoadGenerator(HttpClient client, URI baseUri) {
+        this.client = client;
+        for (RequestType type : RequestType.values()) {
+            requests.put(type, HttpRequest.newBuilder(baseUri.resolve(type.getPath()))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Origin", "https://app.example.com")
+                    .GET()
+                    .build());
+            recorders.put(type, new Recorder(3));
+            errors.put(type, new LongAdder());
+        }
+    }
+
+    /**
+     * 闭环压测，每个连接等上一个响应后再发下一个请求
+     * <p>
+     * rate大于0时每个连接按 concurrency / rate 秒的间隔发送，响应慢于间隔时立即发送下一个，
+     * 以这个配置的间隔补偿协调遗漏；rate为0时不限速，记录未补偿的延迟
+     *
+     * @param concurrency 并发数
+     * @param duration    持续时间
+     * @param rate        所有连接合计的每秒请求数，0为不限速
+     */
+    public void runClosed(int concurrency, Duration duration, int rate) throws InterruptedException {
+        long end = System.nanoTime() + duration.toNanos();
+        long interval = rate > 0 ? TimeUnit.SECONDS.toNanos(concurrency) / rate : 0;
+        long expectedMicros = TimeUnit.NANOSECONDS.toMicros(interval);
+        List<Thread> threads = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            Thread thread = new Thread(() -> {
+                long next = System.nanoTime();
+                while (System.nanoTime() < end) {
+                    if (interval > 0) {
+                        long delay = next - System.nanoTime();
+                        if (delay > 0) {
+                            LockSupport.parkNanos(delay);
+                        }
+                        next += interval;
+                    }
+                    RequestType type = RequestType.pick(ThreadLocalRandom.current().nextInt(100));
+                    long start = System.nanoTime();
+                    boolean ok;
+                    try {
+                        ok = client.send(requests.get(type), HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+                    } catch (Exception e) {
+                        ok = false;
+                    }
+                    long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+                    if (expectedMicros > 0) {
+                        recorders.get(type).recordValueWithExpectedInterval(micros, expectedMicros);
+                    } else {
+                        recorders.get(type).recordValue(micros);
+                    }
+                    if (!ok) {
+                        errors.get(type).increment();
+                    }
+                }
+            }, "load-closed-" + i);
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    /**
+     * 开环压测
+     *
+     * @param rate     每秒请求数
+     * @param duration 持续时间
+     */
+    public void runOpen(int rate, Duration duration) throws InterruptedException {
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        AtomicLong inflight = new AtomicLong();
+        for (long i = 0; ; i++) {
+            long intended = start + i * interval;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            RequestType type = RequestType.pick(ThreadLocalRandom.current().nextInt(100));
+            inflight.incrementAndGet();
+            client.sendAsync(requests.get(type), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, throwable) -> {
+                        // 从计划发送时间算起
+                        recorders.get(type).recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended));
+                        if (throwable != null || response.statusCode() != 200) {
+                            errors.get(type).increment();
+                        }
+                        inflight.decrementAndGet();
+                    });
+        }
+
+        long deadline = System.nanoTime() + REQUEST_TIMEOUT.toNanos();
+        while (inflight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * 取出并清空上一次以来的延迟（微秒）
+     *
+     * @return 按请求类型的直方图
+     */
+    public Map<RequestType, Histogram> drainHistograms() {
+        Map<RequestType, Histogram> histograms = new EnumMap<>(RequestType.class);
+        recorders.forEach((type, recorder) -> histograms.put(type, recorder.getIntervalHistogram()));
+        return histograms;
+    }
+
+    /**
+     * 取出并清空上一次以来的错误数
+     *
+     * @return 按请求类型的错误数
+     */
+    public Map<RequestType, Long> drainErrors() {
+        Map<RequestType, Long> counts = new EnumMap<>(RequestType.class);
+        errors.forEach((type, adder) -> counts.put(type, adder.sumThenReset()));
+        return counts;
+    }
+}
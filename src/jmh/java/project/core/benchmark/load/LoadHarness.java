@@ -0,0 +1,172 @@
+package project.core.benchmark.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 端到端压测
+ * <p>
+ * 在本机随机端口启动内嵌Tomcat的 {@link LoadTestApplication}，按 {@link RequestType} 的占比发送请求，
+ * 输出吞吐量、p50/p99/p999延迟（已补偿协调遗漏）和服务端线程的内存分配速率，结果写为JSON。
+ * 参数 --load.mode=open|closed、--load.concurrency、--load.rate、--load.warmup、--load.duration（秒）、--load.report，
+ * 闭环模式下 --load.rate 为各连接的合计节奏，按它补偿协调遗漏，--load.rate=0 时不限速、延迟不补偿；
+ * 其余参数原样传给spring，可用来开启本库的功能，如 --project.core.compression.enabled=true
+ *
+ * @author tanwei
+ * @date 2026-10-19 12:40
+ **/
+public class LoadHarness {
+
+    private static final String PREFIX = "--load.";
+
+    /**
+     * Tomcat工作线程名前缀，平台线程和虚拟线程模式
+     */
+    private static final String[] SERVER_THREADS = {"http-nio-", "tomcat-handler-"};
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>(8);
+        List<String> springArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith(PREFIX) && arg.contains("=")) {
+                options.put(arg.substring(PREFIX.length(), arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            } else {
+                springArgs.add(arg);
+            }
+        }
+        String mode = options.getOrDefault("mode", "open");
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "64"));
+        int rate = Integer.parseInt(options.getOrDefault("rate", "2000"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+        File report = new File(options.getOrDefault("report", "target/load-report.json"));
+
+        ServletWebServerApplicationContext context = (ServletWebServerApplicationContext) new SpringApplicationBuilder(LoadTestApplication.class)
+                .properties("server.port=0", "spring.main.banner-mode=off")
+                .run(springArgs.toArray(new String[0]));
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        try {
+            URI baseUri = URI.create("http://127.0.0.1:" + context.getWebServer().getPort());
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clientExecutor)
+                    .build();
+            LoadGenerator generator = new LoadGenerator(client, baseUri);
+
+            run(generator, mode, concurrency, rate, warmup);
+            generator.drainHistograms();
+            generator.drainErrors();
+
+            long allocatedBefore = serverAllocatedBytes();
+            long start = System.nanoTime();
+            run(generator, mode, concurrency, rate, duration);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            long allocated = serverAllocatedBytes() - allocatedBefore;
+
+            Map<String, Object> result = report(mode, concurrency, rate, seconds, allocated,
+                    generator.drainHistograms(), generator.drainErrors());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report, result);
+            System.out.println(new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValueAsString(result));
+            System.out.println("压测报告已写入 " + report.getPath());
+        } finally {
+            clientExecutor.shutdownNow();
+            context.close();
+        }
+    }
+
+    private static void run(LoadGenerator generator, String mode, int concurrency, int rate, Duration duration)
+            throws InterruptedException {
+        if ("closed".equalsIgnoreCase(mode)) {
+            generator.runClosed(concurrency, duration, rate);
+        } else {
+            generator.runOpen(rate, duration);
+        }
+    }
+
+    private static Map<String, Object> report(String mode, int concurrency, int rate, double seconds, long allocated,
+                                              Map<RequestType, Histogram> histograms, Map<RequestType, Long> errors) {
+        Map<String, Object> report = new LinkedHashMap<>(8);
+        report.put("mode", mode);
+        if ("closed".equalsIgnoreCase(mode)) {
+            report.put("concurrency", concurrency);
+            report.put("latencyCorrected", rate > 0);
+        }
+        report.put("targetRate", rate);
+        report.put("seconds", seconds);
+
+        Histogram total = total(histograms);
+        long totalErrors = errors.values().stream().mapToLong(Long::longValue).sum();
+        report.put("total", summary(total, totalErrors, seconds));
+        Map<String, Object> types = new LinkedHashMap<>(8);
+        histograms.forEach((type, histogram) -> types.put(type.name(), summary(histogram, errors.get(type), seconds)));
+        report.put("types", types);
+
+        Map<String, Object> allocation = new LinkedHashMap<>(4);
+        allocation.put("bytesPerSecond", (long) (allocated / seconds));
+        allocation.put("bytesPerRequest", total.getTotalCount() == 0 ? 0 : allocated / total.getTotalCount());
+        report.put("serverAllocation", allocation);
+        return report;
+    }
+
+    private static Map<String, Object> summary(Histogram histogram, long errors, double seconds) {
+        Map<String, Object> summary = new LinkedHashMap<>(8);
+        summary.put("requests", histogram.getTotalCount());
+        summary.put("errors", errors);
+        summary.put("throughput", histogram.getTotalCount() / seconds);
+        summary.put("p50Ms", histogram.getValueAtPercentile(50) / 1000.0);
+        summary.put("p99Ms", histogram.getValueAtPercentile(99) / 1000.0);
+        summary.put("p999Ms", histogram.getValueAtPercentile(99.9) / 1000.0);
+        summary.put("maxMs", histogram.getMaxValue() / 1000.0);
+        return summary;
+    }
+
+    private static Histogram total(Map<RequestType, Histogram> histograms) {
+        Histogram total = new Histogram(3);
+        histograms.values().forEach(total::add);
+        return total;
+    }
+
+    /**
+     * Tomcat工作线程累计分配的字节数，虚拟线程不在统计范围内
+     */
+    private static long serverAllocatedBytes() {
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long total = 0;
+        for (long id : threadMXBean.getAllThreadIds()) {
+            java.lang.management.ThreadInfo info = threadMXBean.getThreadInfo(id);
+            if (info == null || !isServerThread(info.getThreadName())) {
+                continue;
+            }
+            long bytes = threadMXBean.getThreadAllocatedBytes(id);
+            if (bytes > 0) {
+                total += bytes;
+            }
+        }
+        return total;
+    }
+
+    private static boolean isServerThread(String name) {
+        for (String prefix : SERVER_THREADS) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,14 @@
+package project.core.benchmark.load;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * 压测应用，扫描整个 project.core，与业务服务引入本库时的装配一致（CorsConfig、两个全局异常处理器等），
+ * 接口为 BenchmarkController
+ *
+ * @author tanwei
+ * @date 2026-10-19 12:10
+ **/
+@SpringBootApplication(scanBasePackages = "project.core")
+public class LoadTestApplication {
+}
@@ -0,0 +1,64 @@
+package project.core.benchmark.load;
+
+/**
+ * 压测请求类型与默认占比
+ *
+ * @author tanwei
+ * @date 2026-10-19 12:15
+ **/
+public enum RequestType {
+
+    /**
+     * 成功，返回20行数据
+     */
+    SUCCESS("/bench/ok", 60),
+
+    /**
+     * 缺少必填参数，经过 GlobalDefaultExceptionHandler
+     */
+    VALIDATION_ERROR("/bench/valid", 15),
+
+    /**
+     * 业务异常，经过 GlobalBaseExceptionHandler
+     */
+    BUSINESS_ERROR("/bench/business", 15),
+
+    /**
+     * 64KB下载
+     */
+    DOWNLOAD("/bench/download", 10);
+
+    private final String path;
+
+    private final int weight;
+
+    RequestType(String path, int weight) {
+        this.path = path;
+        this.weight = weight;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    /**
+     * 按占比选择
+     *
+     * @param random 0-99
+     * @return 请求类型
+     */
+    public static RequestType pick(int random) {
+        int total = 0;
+        for (RequestType type : values()) {
+            total += type.weight;
+            if (random < total) {
+                return type;
+            }
+        }
+        return SUCCESS;
+    }
+}
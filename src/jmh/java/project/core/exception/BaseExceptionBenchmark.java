@@ -0,0 +1,75 @@
+package project.core.exception;
+
+import cn.hutool.core.util.StrUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import project.core.constants.CommonHttpStatusEnum;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 业务异常创建、抛出与消息格式化
+ *
+ * @author tanwei
+ * @date 2026-10-19 11:10
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BaseExceptionBenchmark {
+
+    private static final String TEMPLATE = "用户{}不存在，租户{}，id={}";
+
+    private String name = "tanwei";
+
+    private String tenant = "t-001";
+
+    private long id = 42;
+
+    @Benchmark
+    public BaseException construct() {
+        return new BaseException(CommonHttpStatusEnum.BAD_REQUEST);
+    }
+
+    @Benchmark
+    public BaseException constructWithStackTrace() {
+        return new BaseException(false, CommonHttpStatusEnum.BAD_REQUEST.getCode(), CommonHttpStatusEnum.BAD_REQUEST.getMessage());
+    }
+
+    @Benchmark
+    public BaseException ofEnum() {
+        return BaseException.of(CommonHttpStatusEnum.BAD_REQUEST);
+    }
+
+    @Benchmark
+    public BaseException throwAndCatch() {
+        try {
+            throw new BaseException(CommonHttpStatusEnum.BAD_REQUEST);
+        } catch (BaseException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public String getMessageFormatted() {
+        return new BaseException(CommonHttpStatusEnum.BAD_REQUEST, TEMPLATE, name, tenant, id).getMessage();
+    }
+
+    /**
+     * 对照：原来的 StrUtil.format
+     */
+    @Benchmark
+    public String strUtilFormat() {
+        return StrUtil.format(TEMPLATE, name, tenant, id);
+    }
+}
@@ -0,0 +1,54 @@
+package project.core.exception.handler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import project.core.benchmark.BenchmarkController;
+import project.core.exception.GlobalBaseExceptionHandler;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * 经过 DispatcherServlet 和全局异常处理器的完整分派，ok 为对照
+ *
+ * @author tanwei
+ * @date 2026-10-19 11:45
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExceptionHandlerBenchmark {
+
+    @Param({"ok", "business", "npe", "valid"})
+    private String path;
+
+    private MockMvc mockMvc;
+
+    @Setup
+    public void setup() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new BenchmarkController())
+                .setControllerAdvice(new GlobalDefaultExceptionHandler(), new GlobalBaseExceptionHandler())
+                .build();
+    }
+
+    @Benchmark
+    public MvcResult dispatch() throws Exception {
+        return mockMvc.perform(get("/bench/" + path)).andReturn();
+    }
+}
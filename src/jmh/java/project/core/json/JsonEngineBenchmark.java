@@ -0,0 +1,105 @@
+package project.core.json;
+
+import com.alibaba.fastjson.JSON;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import project.core.utils.ResultUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ResultUtil 构建与序列化：jackson引擎、fastjson引擎，以及原来的 ObjectMapper 反射序列化和 fastjson toString
+ *
+ * @author tanwei
+ * @date 2026-10-19 11:20
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonEngineBenchmark {
+
+    @Param({"1", "50"})
+    private int rows;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private JsonEngine jackson;
+
+    private JsonEngine fastjson;
+
+    private ResultUtil<List<Map<String, Object>>> result;
+
+    private ByteArrayOutputStream outputStream;
+
+    @Setup
+    public void setup() {
+        jackson = new JacksonJsonEngine(objectMapper);
+        fastjson = new FastjsonJsonEngine();
+        List<Map<String, Object>> data = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Map<String, Object> row = new LinkedHashMap<>(8);
+            row.put("id", 10000L + i);
+            row.put("name", "用户" + i);
+            row.put("email", "user" + i + "@example.com");
+            row.put("enabled", i % 2 == 0);
+            row.put("score", i * 1.5);
+            data.add(row);
+        }
+        result = ResultUtil.success(data);
+        outputStream = new ByteArrayOutputStream(rows * 128 + 64);
+    }
+
+    @Benchmark
+    public ResultUtil<List<Map<String, Object>>> build() {
+        return ResultUtil.success(result.getData());
+    }
+
+    @Benchmark
+    public int jacksonEngine() throws IOException {
+        outputStream.reset();
+        jackson.write(result, outputStream);
+        return outputStream.size();
+    }
+
+    @Benchmark
+    public int fastjsonEngine() throws IOException {
+        outputStream.reset();
+        fastjson.write(result, outputStream);
+        return outputStream.size();
+    }
+
+    /**
+     * 对照：spring mvc 原来经过 BeanSerializer 的路径
+     */
+    @Benchmark
+    public byte[] objectMapper() throws IOException {
+        return objectMapper.writeValueAsBytes(result);
+    }
+
+    /**
+     * 对照：原来 ResultUtil.toString 使用的 fastjson
+     */
+    @Benchmark
+    public String fastjsonToString() {
+        return JSON.toJSONString(result);
+    }
+}
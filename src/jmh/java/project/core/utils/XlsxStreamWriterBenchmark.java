@@ -0,0 +1,66 @@
+package project.core.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * XLSX流式写出，结果为每秒行数
+ *
+ * @author tanwei
+ * @date 2026-10-19 11:35
+ **/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class XlsxStreamWriterBenchmark {
+
+    private static final int ROWS = 10000;
+
+    private static final OutputStream DISCARD = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    private List<Object> row;
+
+    @Setup
+    public void setup() {
+        row = Arrays.asList(12345L, "张三", "zhangsan@example.com", new BigDecimal("1999.90"), LocalDateTime.of(2026, 10, 18, 12, 0));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void writeRows() throws IOException {
+        try (XlsxStreamWriter writer = new XlsxStreamWriter(DISCARD)) {
+            writer.headers(Arrays.asList("id", "姓名", "邮箱", "金额", "时间"));
+            for (int i = 0; i < ROWS; i++) {
+                writer.writeRow(row);
+            }
+        }
+    }
+}
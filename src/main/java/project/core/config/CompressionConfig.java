@@ -0,0 +1,33 @@
+package project.core.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import project.core.filter.CompressionFilter;
+
+/**
+ * 响应压缩配置，project.core.compression.enabled=true 时开启
+ *
+ * @author tanwei
+ * @date 2026-10-19 10:00
+ **/
+@Configuration
+@EnableConfigurationProperties(CompressionProperties.class)
+@ConditionalOnProperty(prefix = "project.core.compression", name = "enabled", havingValue = "true")
+public class CompressionConfig {
+
+    /**
+     * 压缩过滤器，排在限流、并发限制、截止时间之后，被拒绝的小响应体不经过压缩
+     */
+    @Bean
+    public FilterRegistrationBean<CompressionFilter> compressionFilter(CompressionProperties properties) {
+        FilterRegistrationBean<CompressionFilter> registration = new FilterRegistrationBean<>(new CompressionFilter(properties));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 30);
+        registration.setAsyncSupported(true);
+        return registration;
+    }
+}
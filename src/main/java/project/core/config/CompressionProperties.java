@@ -0,0 +1,54 @@
+package project.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 响应压缩配置
+ *
+ * @author tanwei
+ * @date 2026-10-19 09:00
+ **/
+@Data
+@ConfigurationProperties(prefix = "project.core.compression")
+public class CompressionProperties {
+
+    /**
+     * 是否开启
+     */
+    private boolean enabled = false;
+
+    /**
+     * 压缩级别 1-9，越大压缩率越高、CPU开销越大
+     */
+    private int level = 6;
+
+    /**
+     * 响应体超过该大小（字节）才压缩
+     */
+    private int minSize = 1024;
+
+    /**
+     * 不压缩的响应类型，前缀匹配，默认排除已经压缩过的类型、文件下载和流式响应
+     */
+    private List<String> excludedMimeTypes = new ArrayList<>(Arrays.asList(
+            "application/octet-stream",
+            "application/zip",
+            "application/gzip",
+            "application/pdf",
+            "application/vnd.openxmlformats-officedocument",
+            "multipart/byteranges",
+            "text/event-stream",
+            "image/",
+            "video/",
+            "audio/"));
+
+    /**
+     * 每种编码的 Deflater 池大小，0为CPU核数的2倍
+     */
+    private int poolSize = 0;
+}
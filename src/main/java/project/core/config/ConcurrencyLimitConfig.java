@@ -0,0 +1,45 @@
+package project.core.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import project.core.filter.ConcurrencyLimitFilter;
+import project.core.filter.ConcurrencyLimiter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 自适应并发限制配置，project.core.concurrency-limit.enabled=true 时开启
+ *
+ * @author tanwei
+ * @date 2026-10-18 18:45
+ **/
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+@ConditionalOnProperty(prefix = "project.core.concurrency-limit", name = "enabled", havingValue = "true")
+public class ConcurrencyLimitConfig {
+
+    /**
+     * 并发限制器，可注入后读取当前上限、并发数和拒绝数
+     */
+    @Bean
+    public ConcurrencyLimiter concurrencyLimiter(ConcurrencyLimitProperties properties) {
+        return new ConcurrencyLimiter(properties.getInitialLimit(), properties.getMinLimit(), properties.getMaxLimit(),
+                properties.getWindow(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 并发限制过滤器，排在限流之后、截止时间之前
+     */
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(ConcurrencyLimiter concurrencyLimiter) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(new ConcurrencyLimitFilter(concurrencyLimiter));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 15);
+        registration.setAsyncSupported(true);
+        return registration;
+    }
+}
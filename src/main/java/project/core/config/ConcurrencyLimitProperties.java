@@ -0,0 +1,40 @@
+package project.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 自适应并发限制配置
+ *
+ * @author tanwei
+ * @date 2026-10-18 18:40
+ **/
+@Data
+@ConfigurationProperties(prefix = "project.core.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    /**
+     * 是否开启
+     */
+    private boolean enabled = false;
+
+    /**
+     * 初始并发上限
+     */
+    private int initialLimit = 100;
+
+    /**
+     * 最小并发上限
+     */
+    private int minLimit = 10;
+
+    /**
+     * 最大并发上限，不应超过容器工作线程数太多
+     */
+    private int maxLimit = 1000;
+
+    /**
+     * 统计窗口（毫秒）
+     */
+    private long window = 1000;
+}
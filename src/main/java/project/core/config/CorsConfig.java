@@ -1,10 +1,15 @@
 package project.core.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
+import project.core.filter.CorsFastFilter;
 
 import java.time.Duration;
 
@@ -15,12 +20,14 @@ import java.time.Duration;
  * @date 2022-11-24 9:11
  **/
 @Configuration
+@EnableConfigurationProperties(CorsProperties.class)
 public class CorsConfig {
 
     /**
      * 跨域配置
      */
     @Bean
+    @ConditionalOnProperty(prefix = "project.core.cors.fast-path", name = "enabled", havingValue = "false", matchIfMissing = true)
     public CorsFilter corsFilter() {
         CorsConfiguration config = new CorsConfiguration();
         // 是否允许携带cookie
@@ -38,4 +45,26 @@ public class CorsConfig {
 
         return new CorsFilter(source);
     }
+
+    /**
+     * 跨域快速路径，project.core.cors.fast-path.enabled=true 时代替 {@link #corsFilter()}，
+     * 规则读取 project.core.cors，运行时可注入后调用 reload 替换
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "project.core.cors.fast-path", name = "enabled", havingValue = "true")
+    public CorsFastFilter corsFastFilter(CorsProperties properties) {
+        return new CorsFastFilter(properties.toPolicy());
+    }
+
+    /**
+     * 排在限流之前，预检请求不占用限流额度
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "project.core.cors.fast-path", name = "enabled", havingValue = "true")
+    public FilterRegistrationBean<CorsFastFilter> corsFastFilterRegistration(CorsFastFilter corsFastFilter) {
+        FilterRegistrationBean<CorsFastFilter> registration = new FilterRegistrationBean<>(corsFastFilter);
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
 }
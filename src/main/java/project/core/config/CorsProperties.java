@@ -0,0 +1,60 @@
+package project.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import project.core.filter.CorsPolicy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 跨域配置，默认值与原来的 CorsFilter 一致
+ *
+ * @author tanwei
+ * @date 2026-10-18 21:15
+ **/
+@Data
+@ConfigurationProperties(prefix = "project.core.cors")
+public class CorsProperties {
+
+    /**
+     * 允许的域名，支持 * 和 https://*.example.com
+     */
+    private List<String> allowedOrigins = new ArrayList<>(Collections.singletonList("*"));
+
+    /**
+     * 允许的请求方式，* 为全部
+     */
+    private List<String> allowedMethods = new ArrayList<>(Collections.singletonList("*"));
+
+    /**
+     * 允许的请求头，* 为全部
+     */
+    private List<String> allowedHeaders = new ArrayList<>(Collections.singletonList("*"));
+
+    /**
+     * 暴露给前端的响应头
+     */
+    private List<String> exposedHeaders = new ArrayList<>();
+
+    /**
+     * 是否允许携带cookie，开启时 allowed-origins 必须明确列出域名或通配域名，不能为 *
+     */
+    private boolean allowCredentials = false;
+
+    /**
+     * 预检缓存时间（秒）
+     */
+    private long maxAge = 9 * 60 * 60;
+
+    /**
+     * 生成跨域规则
+     *
+     * @return 规则
+     */
+    public CorsPolicy toPolicy() {
+        return new CorsPolicy(allowedOrigins, allowedMethods, allowedHeaders, exposedHeaders,
+                allowCredentials, maxAge);
+    }
+}
@@ -0,0 +1,40 @@
+package project.core.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import project.core.deadline.DeadlineWheel;
+import project.core.filter.DeadlineFilter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 请求截止时间配置，project.core.deadline.enabled=true 时开启
+ *
+ * @author tanwei
+ * @date 2026-10-18 17:50
+ **/
+@Configuration
+@EnableConfigurationProperties(DeadlineProperties.class)
+@ConditionalOnProperty(prefix = "project.core.deadline", name = "enabled", havingValue = "true")
+public class DeadlineConfig {
+
+    @Bean(destroyMethod = "stop")
+    public DeadlineWheel deadlineWheel(DeadlineProperties properties) {
+        return new DeadlineWheel(properties.getTick(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 截止时间过滤器，排在限流之后
+     */
+    @Bean
+    public FilterRegistrationBean<DeadlineFilter> deadlineFilter(DeadlineProperties properties, DeadlineWheel deadlineWheel) {
+        FilterRegistrationBean<DeadlineFilter> registration = new FilterRegistrationBean<>(new DeadlineFilter(properties, deadlineWheel));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+}
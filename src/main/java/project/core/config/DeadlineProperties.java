@@ -0,0 +1,53 @@
+package project.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 请求截止时间配置
+ *
+ * @author tanwei
+ * @date 2026-10-18 17:30
+ **/
+@Data
+@ConfigurationProperties(prefix = "project.core.deadline")
+public class DeadlineProperties {
+
+    /**
+     * 是否开启
+     */
+    private boolean enabled = false;
+
+    /**
+     * 上游传入剩余时间（毫秒）的请求头
+     */
+    private String headerName = "X-Request-Timeout";
+
+    /**
+     * 默认超时时间（毫秒），0为不限制
+     */
+    private long defaultTimeout = 0;
+
+    /**
+     * 超时时间上限（毫秒），0为不限制
+     */
+    private long maxTimeout = 0;
+
+    /**
+     * 按路由的默认超时时间（毫秒），key为ant路径，按配置顺序匹配，0 表示不限制
+     */
+    private Map<String, Long> routes = new LinkedHashMap<>();
+
+    /**
+     * 时间轮刻度（毫秒）
+     */
+    private long tick = 10;
+
+    /**
+     * 到期时是否中断请求线程，阻塞在可中断操作上的请求可以立即结束；NIO通道被中断会关闭，谨慎开启
+     */
+    private boolean interrupt = false;
+}
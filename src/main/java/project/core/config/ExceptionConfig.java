@@ -0,0 +1,58 @@
+package project.core.config;
+
+import cn.hutool.core.util.StrUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import project.core.exception.BaseException;
+import project.core.exception.ErrorMessageCatalog;
+
+import javax.annotation.PostConstruct;
+
+/**
+ * 异常配置
+ *
+ * @author tanwei
+ * @date 2026-10-18 10:02
+ **/
+@Configuration
+public class ExceptionConfig {
+
+    /**
+     * 业务异常是否不采集堆栈
+     */
+    @Value("${project.core.exception.stackless:false}")
+    private boolean stackless;
+
+    /**
+     * 调试开关，开启后业务异常始终采集堆栈
+     */
+    @Value("${project.core.exception.debug:false}")
+    private boolean debug;
+
+    /**
+     * 错误消息目录的bundle名称，如 i18n/error，为空则不启用
+     */
+    @Value("${project.core.exception.message-bundle:}")
+    private String messageBundle;
+
+    /**
+     * 错误消息目录加载的语言，如 zh_CN,en
+     */
+    @Value("${project.core.exception.message-locales:}")
+    private String[] messageLocales;
+
+    @PostConstruct
+    public void init() {
+        BaseException.setStackless(stackless);
+        BaseException.setDebug(debug);
+
+        if (StrUtil.isNotBlank(messageBundle)) {
+            for (String locale : messageLocales) {
+                if (StrUtil.isNotBlank(locale)) {
+                    ErrorMessageCatalog.load(messageBundle, StringUtils.parseLocale(locale.trim()));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package project.core.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import project.core.exception.ExceptionLogger;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 异常日志抑制配置，project.core.exception.log.enabled=true 时开启
+ *
+ * @author tanwei
+ * @date 2026-10-18 19:35
+ **/
+@Configuration
+@EnableConfigurationProperties(ExceptionLogProperties.class)
+@ConditionalOnProperty(prefix = "project.core.exception.log", name = "enabled", havingValue = "true")
+public class ExceptionLogConfig {
+
+    private final ExceptionLogProperties properties;
+
+    public ExceptionLogConfig(ExceptionLogProperties properties) {
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void init() {
+        Map<String, long[]> rules = new HashMap<>(properties.getHandlers().size() * 2);
+        properties.getHandlers().forEach((handler, rule) -> rules.put(handler, new long[]{rule.getThreshold(), rule.getWindow()}));
+        ExceptionLogger.enable(properties.getThreshold(), properties.getWindow(), rules);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        ExceptionLogger.disable();
+    }
+}
@@ -0,0 +1,55 @@
+package project.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 异常日志抑制配置
+ *
+ * @author tanwei
+ * @date 2026-10-18 19:30
+ **/
+@Data
+@ConfigurationProperties(prefix = "project.core.exception.log")
+public class ExceptionLogProperties {
+
+    /**
+     * 是否开启抑制，关闭时每次异常都打印
+     */
+    private boolean enabled = false;
+
+    /**
+     * 每个指纹在一个窗口内完整打印的次数
+     */
+    private int threshold = 10;
+
+    /**
+     * 窗口（秒）
+     */
+    private long window = 60;
+
+    /**
+     * 按处理器名单独配置，如 handleException、handlerServletException，与汇总日志中的处理器名一致
+     */
+    private Map<String, Rule> handlers = new LinkedHashMap<>();
+
+    /**
+     * 单个处理器的规则
+     */
+    @Data
+    public static class Rule {
+
+        /**
+         * 每个指纹在一个窗口内完整打印的次数
+         */
+        private int threshold = 10;
+
+        /**
+         * 窗口（秒）
+         */
+        private long window = 60;
+    }
+}
@@ -0,0 +1,74 @@
+package project.core.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import project.core.json.FastjsonJsonEngine;
+import project.core.json.JacksonJsonEngine;
+import project.core.json.JsonEngine;
+import project.core.json.ResultHttpMessageConverter;
+import project.core.json.ResultStreamHttpMessageConverter;
+import project.core.utils.ErrorBodyUtil;
+import project.core.utils.ResultWriter;
+
+import javax.annotation.PostConstruct;
+
+/**
+ * JSON配置，返回结果的序列化统一使用一个 {@link JsonEngine}
+ * <p>
+ * project.core.json.engine 可选 jackson（默认，使用spring mvc同一个ObjectMapper）、fastjson；
+ * 注册自己的 JsonEngine bean 可替换，本配置不注册 JsonEngine bean，与组件扫描的顺序无关
+ *
+ * @author tanwei
+ * @date 2026-10-18 13:45
+ **/
+@Configuration
+public class JsonConfig {
+
+    private final ObjectProvider<JsonEngine> jsonEngine;
+
+    private final ObjectProvider<ObjectMapper> objectMapper;
+
+    @Value("${project.core.json.engine:" + JacksonJsonEngine.NAME + "}")
+    private String engine;
+
+    public JsonConfig(ObjectProvider<JsonEngine> jsonEngine, ObjectProvider<ObjectMapper> objectMapper) {
+        this.jsonEngine = jsonEngine;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void init() {
+        ResultWriter.setEngine(jsonEngine.getIfAvailable(this::defaultEngine));
+        // 预编码的响应体按新引擎重新生成
+        ErrorBodyUtil.clear();
+    }
+
+    /**
+     * 没有自定义 JsonEngine bean 时按 project.core.json.engine 创建
+     */
+    private JsonEngine defaultEngine() {
+        if (FastjsonJsonEngine.NAME.equalsIgnoreCase(engine)) {
+            return new FastjsonJsonEngine();
+        }
+        return new JacksonJsonEngine(objectMapper.getIfAvailable(ObjectMapper::new));
+    }
+
+    /**
+     * 控制器返回的 ResultUtil 同样由JSON引擎写出，spring boot会把它排在默认转换器之前
+     */
+    @Bean
+    public ResultHttpMessageConverter resultHttpMessageConverter() {
+        return new ResultHttpMessageConverter();
+    }
+
+    /**
+     * 控制器返回的 ResultStream 逐个元素写出，支持 application/json 与 application/x-ndjson
+     */
+    @Bean
+    public ResultStreamHttpMessageConverter resultStreamHttpMessageConverter() {
+        return new ResultStreamHttpMessageConverter();
+    }
+}
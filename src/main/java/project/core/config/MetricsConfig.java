@@ -0,0 +1,58 @@
+package project.core.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Configuration;
+import project.core.filter.ConcurrencyLimiter;
+import project.core.metrics.ErrorMetrics;
+import project.core.metrics.Meter;
+
+import javax.annotation.PostConstruct;
+
+/**
+ * 错误指标接入Micrometer，存在 MeterRegistry 时自动注册
+ * <p>
+ * 指标名 project.core.errors，标签 dimension（code/handler/exception）和 key；
+ * 开启并发限制时另外注册 project.core.concurrency.limit/inflight/shed
+ *
+ * @author tanwei
+ * @date 2026-10-18 20:30
+ **/
+@Configuration
+@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+public class MetricsConfig {
+
+    private static final String ERRORS = "project.core.errors";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    private final ObjectProvider<ConcurrencyLimiter> concurrencyLimiter;
+
+    public MetricsConfig(ObjectProvider<MeterRegistry> meterRegistry, ObjectProvider<ConcurrencyLimiter> concurrencyLimiter) {
+        this.meterRegistry = meterRegistry;
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    @PostConstruct
+    public void init() {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        ErrorMetrics.addListener((dimension, key, meter) ->
+                FunctionCounter.builder(ERRORS, meter, Meter::getCount)
+                        .tag("dimension", dimension)
+                        .tag("key", key)
+                        .register(registry));
+
+        ConcurrencyLimiter limiter = concurrencyLimiter.getIfAvailable();
+        if (limiter != null) {
+            Gauge.builder("project.core.concurrency.limit", limiter, ConcurrencyLimiter::getLimit).register(registry);
+            Gauge.builder("project.core.concurrency.inflight", limiter, ConcurrencyLimiter::getInflight).register(registry);
+            FunctionCounter.builder("project.core.concurrency.shed", limiter, ConcurrencyLimiter::getShedCount).register(registry);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package project.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 限流配置
+ *
+ * @author tanwei
+ * @date 2026-10-18 16:30
+ **/
+@Data
+@ConfigurationProperties(prefix = "project.core.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * 是否开启
+     */
+    private boolean enabled = false;
+
+    /**
+     * 限流维度
+     */
+    private KeyType key = KeyType.IP;
+
+    /**
+     * key为HEADER时使用的请求头，请求头不存在时按ip限流
+     */
+    private String headerName = "GatewayTenantId";
+
+    /**
+     * 是否信任X-Forwarded-For获取客户端ip（经过网关时开启）
+     */
+    private boolean trustForwarded = false;
+
+    /**
+     * 本服务前面可信代理（网关、负载均衡）的层数，客户端ip取X-Forwarded-For从右往左第N个，
+     * 更左边的值由客户端自行填写，不可信
+     */
+    private int trustedProxies = 1;
+
+    /**
+     * 每秒允许的请求数，必须大于0
+     */
+    private double rate = 100;
+
+    /**
+     * 允许的突发请求数，不能小于1
+     */
+    private int burst = 200;
+
+    /**
+     * 最多保存的key数量，超出后淘汰
+     */
+    private int maxKeys = 100000;
+
+    /**
+     * 需要限流的路径，key为ROUTE时每个匹配的路径单独计数
+     */
+    private List<String> patterns = new ArrayList<>(Collections.singletonList("/**"));
+
+    /**
+     * 限流维度
+     */
+    public enum KeyType {
+
+        /**
+         * 客户端ip
+         */
+        IP,
+
+        /**
+         * 请求头
+         */
+        HEADER,
+
+        /**
+         * 路由
+         */
+        ROUTE
+    }
+}
@@ -0,0 +1,39 @@
+package project.core.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import project.core.singleflight.SingleFlight;
+import project.core.singleflight.SingleFlightGroup;
+import project.core.singleflight.SingleFlightInterceptor;
+
+/**
+ * 请求合并配置，只对标注 {@link SingleFlight} 的接口生效
+ *
+ * @author tanwei
+ * @date 2026-10-18 23:25
+ **/
+@Configuration
+public class SingleFlightConfig implements WebMvcConfigurer {
+
+    /**
+     * 未指定 {@link SingleFlight#timeout()} 时等待首个请求的最长时间（毫秒），避免首个请求挂起时占住所有等待的线程
+     */
+    @Value("${project.core.single-flight.max-wait:10000}")
+    private long maxWait;
+
+    /**
+     * 正在执行的请求，可注入后查看数量
+     */
+    @Bean
+    public SingleFlightGroup singleFlightGroup() {
+        return new SingleFlightGroup();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SingleFlightInterceptor(singleFlightGroup(), maxWait));
+    }
+}
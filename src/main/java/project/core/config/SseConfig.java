@@ -0,0 +1,27 @@
+package project.core.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import project.core.sse.SseRegistry;
+
+/**
+ * 服务端推送（SSE）配置，project.core.sse.enabled=true 时开启
+ *
+ * @author tanwei
+ * @date 2026-10-19 14:40
+ **/
+@Configuration
+@EnableConfigurationProperties(SseProperties.class)
+@ConditionalOnProperty(prefix = "project.core.sse", name = "enabled", havingValue = "true")
+public class SseConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public SseRegistry sseRegistry(SseProperties properties) {
+        int threads = properties.getDispatchThreads() > 0
+                ? properties.getDispatchThreads() : Runtime.getRuntime().availableProcessors();
+        return new SseRegistry(properties.getTimeout(), properties.getHeartbeat(), properties.getWriteTimeout(),
+                properties.getQueueSize(), threads);
+    }
+}
@@ -0,0 +1,45 @@
+package project.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 服务端推送（SSE）配置
+ *
+ * @author tanwei
+ * @date 2026-10-19 14:00
+ **/
+@Data
+@ConfigurationProperties(prefix = "project.core.sse")
+public class SseProperties {
+
+    /**
+     * 是否开启
+     */
+    private boolean enabled = false;
+
+    /**
+     * 连接超时时间（毫秒），到期后客户端自动重连
+     */
+    private long timeout = 30 * 60 * 1000L;
+
+    /**
+     * 心跳间隔（秒），0为不发送
+     */
+    private long heartbeat = 15;
+
+    /**
+     * 连接持续不可写（客户端不读取）的最长时间（毫秒），超出后关闭连接
+     */
+    private long writeTimeout = 30000;
+
+    /**
+     * 每个连接最多排队的事件数，超出时丢弃最早的事件
+     */
+    private int queueSize = 32;
+
+    /**
+     * 发送线程数，0为CPU核数
+     */
+    private int dispatchThreads = 0;
+}
@@ -0,0 +1,120 @@
+package project.core.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import project.core.context.ContextTaskDecorator;
+import project.core.utils.VirtualThreadUtil;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 虚拟线程配置，project.core.virtual-threads.enabled=true 且运行在Java 21及以上时开启，
+ * 低版本JDK打印警告后保持原来的线程池
+ *
+ * @author tanwei
+ * @date 2026-10-18 22:35
+ **/
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(VirtualThreadProperties.class)
+@ConditionalOnProperty(prefix = "project.core.virtual-threads", name = "enabled", havingValue = "true")
+@Conditional(VirtualThreadConfig.OnVirtualThreadsCondition.class)
+public class VirtualThreadConfig {
+
+    private final AutoCloseable pinnedWatcher;
+
+    private ExecutorService asyncExecutor;
+
+    public VirtualThreadConfig(VirtualThreadProperties properties) {
+        this.pinnedWatcher = properties.getPinnedThreshold() > 0
+                ? VirtualThreadUtil.watchPinned(Duration.ofMillis(properties.getPinnedThreshold()))
+                : null;
+    }
+
+    /**
+     * @Async 使用虚拟线程，并传递请求上下文；名称与Spring Boot默认线程池一致以替换之。
+     * 不注册 taskExecutor 别名，避免禁止bean覆盖时与应用自己的 taskExecutor 冲突；
+     * 存在多个 TaskExecutor 时 @Async 需指定 applicationTaskExecutor
+     */
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    @ConditionalOnProperty(prefix = "project.core.virtual-threads", name = "async", havingValue = "true", matchIfMissing = true)
+    public TaskExecutorAdapter applicationTaskExecutor() {
+        asyncExecutor = VirtualThreadUtil.newExecutor("task-");
+        TaskExecutorAdapter executor = new TaskExecutorAdapter(asyncExecutor);
+        executor.setTaskDecorator(new ContextTaskDecorator());
+        return executor;
+    }
+
+    @PreDestroy
+    public void destroy() throws Exception {
+        if (asyncExecutor != null) {
+            asyncExecutor.shutdown();
+        }
+        if (pinnedWatcher != null) {
+            pinnedWatcher.close();
+        }
+    }
+
+    /**
+     * 内嵌Tomcat每个请求一个虚拟线程，代替固定大小的工作线程池；
+     * 单独的配置类，没有Tomcat时不会加载引用coyote类型的方法
+     */
+    @Configuration
+    @ConditionalOnClass(name = "org.apache.catalina.startup.Tomcat")
+    @ConditionalOnProperty(prefix = "project.core.virtual-threads", name = "tomcat", havingValue = "true", matchIfMissing = true)
+    static class TomcatVirtualThreadConfig {
+
+        /**
+         * 外部设置的线程池Tomcat停止时不会关闭，由这里关闭
+         */
+        private final List<ExecutorService> executors = new CopyOnWriteArrayList<>();
+
+        @Bean
+        public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+            return protocolHandler -> {
+                ExecutorService executor = VirtualThreadUtil.newExecutor("tomcat-handler-");
+                executors.add(executor);
+                protocolHandler.setExecutor(executor);
+            };
+        }
+
+        /**
+         * 容器关闭时web服务器已先停止，这里不再接收新任务，正在处理的请求继续完成
+         */
+        @PreDestroy
+        public void destroy() {
+            executors.forEach(ExecutorService::shutdown);
+        }
+    }
+
+    /**
+     * 当前JDK是否支持虚拟线程
+     */
+    static class OnVirtualThreadsCondition extends SpringBootCondition {
+
+        @Override
+        public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            if (VirtualThreadUtil.isAvailable()) {
+                return ConditionOutcome.match("虚拟线程可用");
+            }
+            log.warn("【虚拟线程】 当前JDK {} 不支持虚拟线程，继续使用平台线程", System.getProperty("java.version"));
+            return ConditionOutcome.noMatch("当前JDK不支持虚拟线程");
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package project.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 虚拟线程配置
+ *
+ * @author tanwei
+ * @date 2026-10-18 22:30
+ **/
+@Data
+@ConfigurationProperties(prefix = "project.core.virtual-threads")
+public class VirtualThreadProperties {
+
+    /**
+     * 是否开启，需要Java 21及以上，低版本JDK忽略
+     */
+    private boolean enabled = false;
+
+    /**
+     * 内嵌Tomcat是否使用虚拟线程处理请求
+     */
+    private boolean tomcat = true;
+
+    /**
+     * @Async 是否使用虚拟线程
+     */
+    private boolean async = true;
+
+    /**
+     * 虚拟线程固定（pinned）超过该时间（毫秒）时打印堆栈，0为不监听
+     */
+    private long pinnedThreshold = 20;
+}
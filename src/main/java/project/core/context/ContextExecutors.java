@@ -0,0 +1,148 @@
+package project.core.context;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 传递请求上下文的线程池包装
+ * <p>
+ * 提交任务时捕获 {@link RequestContextSnapshot}，执行时恢复，业务代码在线程池、CompletableFuture
+ * 中也能使用 HttpServletUtil 的方法
+ *
+ * @author tanwei
+ * @date 2026-10-18 21:55
+ **/
+public final class ContextExecutors {
+
+    private static final Executor COMMON_POOL = wrap((Executor) ForkJoinPool.commonPool());
+
+    private ContextExecutors() {
+    }
+
+    /**
+     * 包装Executor
+     *
+     * @param executor 线程池
+     * @return 传递上下文的线程池
+     */
+    public static Executor wrap(Executor executor) {
+        if (executor instanceof ContextExecutorService) {
+            return executor;
+        }
+        return command -> executor.execute(RequestContextSnapshot.capture().wrap(command));
+    }
+
+    /**
+     * 包装ExecutorService，submit、invokeAll 等方法都经过 execute 传递上下文
+     *
+     * @param executorService 线程池
+     * @return 传递上下文的线程池
+     */
+    public static ExecutorService wrap(ExecutorService executorService) {
+        if (executorService instanceof ContextExecutorService) {
+            return executorService;
+        }
+        return new ContextExecutorService(executorService);
+    }
+
+    /**
+     * 传递上下文的公共ForkJoin线程池，可作为 CompletableFuture 各个 *Async 方法的线程池
+     *
+     * @return 线程池
+     */
+    public static Executor commonPool() {
+        return COMMON_POOL;
+    }
+
+    /**
+     * 异步执行，使用公共ForkJoin线程池
+     *
+     * @param supplier 任务
+     * @param <U>      返回值类型
+     * @return CompletableFuture
+     */
+    public static <U> CompletableFuture<U> supplyAsync(Supplier<U> supplier) {
+        return supplyAsync(supplier, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 异步执行
+     *
+     * @param supplier 任务
+     * @param executor 线程池
+     * @param <U>      返回值类型
+     * @return CompletableFuture
+     */
+    public static <U> CompletableFuture<U> supplyAsync(Supplier<U> supplier, Executor executor) {
+        return CompletableFuture.supplyAsync(RequestContextSnapshot.capture().wrapSupplier(supplier), executor);
+    }
+
+    /**
+     * 异步执行，使用公共ForkJoin线程池
+     *
+     * @param runnable 任务
+     * @return CompletableFuture
+     */
+    public static CompletableFuture<Void> runAsync(Runnable runnable) {
+        return runAsync(runnable, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 异步执行
+     *
+     * @param runnable 任务
+     * @param executor 线程池
+     * @return CompletableFuture
+     */
+    public static CompletableFuture<Void> runAsync(Runnable runnable, Executor executor) {
+        return CompletableFuture.runAsync(RequestContextSnapshot.capture().wrap(runnable), executor);
+    }
+
+    /**
+     * 传递上下文的ExecutorService
+     */
+    private static class ContextExecutorService extends AbstractExecutorService {
+
+        private final ExecutorService delegate;
+
+        ContextExecutorService(ExecutorService delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            delegate.execute(RequestContextSnapshot.capture().wrap(command));
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package project.core.context;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * 传递请求上下文的 TaskDecorator，可设置到 ThreadPoolTaskExecutor，@Async 方法中也能获取请求
+ *
+ * @author tanwei
+ * @date 2026-10-18 22:00
+ **/
+public class ContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return RequestContextSnapshot.capture().wrap(runnable);
+    }
+}
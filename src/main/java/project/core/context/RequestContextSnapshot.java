@@ -0,0 +1,191 @@
+package project.core.context;
+
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import project.core.deadline.Deadline;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * 请求上下文快照
+ * <p>
+ * 在提交任务的线程上 {@link #capture()}，在执行任务的线程上 {@link #restore()}，任务结束后恢复执行线程原来的上下文。
+ * 包含 RequestAttributes、LocaleContext、租户id和截止时间；租户id和截止时间在捕获时读出，
+ * 原请求结束、request被回收后仍然可以通过 HttpServletUtil 读取。
+ * 快照不可变，只使用普通ThreadLocal，不依赖 InheritableThreadLocal，虚拟线程下每次任务的开销只有几次ThreadLocal读写
+ *
+ * @author tanwei
+ * @date 2026-10-18 21:40
+ **/
+public final class RequestContextSnapshot {
+
+    /**
+     * 租户id请求头
+     */
+    public static final String TENANT_ID_HEADER = "GatewayTenantId";
+
+    private static final ThreadLocal<RequestContextSnapshot> CURRENT = new ThreadLocal<>();
+
+    private static final RequestContextSnapshot EMPTY = new RequestContextSnapshot(null, null, null, null);
+
+    private final RequestAttributes attributes;
+
+    private final LocaleContext localeContext;
+
+    private final String tenantId;
+
+    private final Deadline deadline;
+
+    private RequestContextSnapshot(RequestAttributes attributes, LocaleContext localeContext, String tenantId, Deadline deadline) {
+        this.attributes = attributes;
+        this.localeContext = localeContext;
+        this.tenantId = tenantId;
+        this.deadline = deadline;
+    }
+
+    /**
+     * 捕获当前线程的请求上下文，已经处在恢复的快照中时直接返回该快照
+     *
+     * @return 快照，不在请求中时返回空快照
+     */
+    public static RequestContextSnapshot capture() {
+        RequestContextSnapshot current = CURRENT.get();
+        if (current != null) {
+            return current;
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return EMPTY;
+        }
+
+        String tenantId = null;
+        Deadline deadline = null;
+        if (attributes instanceof ServletRequestAttributes) {
+            HttpServletRequest request = ((ServletRequestAttributes) attributes).getRequest();
+            tenantId = request.getHeader(TENANT_ID_HEADER);
+            deadline = (Deadline) request.getAttribute(Deadline.ATTRIBUTE);
+        }
+        return new RequestContextSnapshot(attributes, LocaleContextHolder.getLocaleContext(), tenantId, deadline);
+    }
+
+    /**
+     * 当前线程恢复的快照
+     *
+     * @return 快照，不在 {@link #restore()} 范围内返回null
+     */
+    public static RequestContextSnapshot current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 在当前线程恢复快照
+     *
+     * @return 作用域，关闭时恢复当前线程原来的上下文
+     */
+    public Scope restore() {
+        Scope scope = new Scope(CURRENT.get(), RequestContextHolder.getRequestAttributes(), LocaleContextHolder.getLocaleContext());
+        CURRENT.set(this);
+        RequestContextHolder.setRequestAttributes(attributes);
+        LocaleContextHolder.setLocaleContext(localeContext);
+        return scope;
+    }
+
+    /**
+     * 包装任务，执行时恢复快照
+     *
+     * @param task 任务
+     * @return 包装后的任务
+     */
+    public Runnable wrap(Runnable task) {
+        if (this == EMPTY) {
+            return task;
+        }
+        return () -> {
+            try (Scope ignored = restore()) {
+                task.run();
+            }
+        };
+    }
+
+    /**
+     * 包装任务，执行时恢复快照
+     *
+     * @param task 任务
+     * @param <V>  返回值类型
+     * @return 包装后的任务
+     */
+    public <V> Callable<V> wrap(Callable<V> task) {
+        if (this == EMPTY) {
+            return task;
+        }
+        return () -> {
+            try (Scope ignored = restore()) {
+                return task.call();
+            }
+        };
+    }
+
+    /**
+     * 包装任务，执行时恢复快照
+     *
+     * @param task 任务
+     * @param <V>  返回值类型
+     * @return 包装后的任务
+     */
+    public <V> Supplier<V> wrapSupplier(Supplier<V> task) {
+        if (this == EMPTY) {
+            return task;
+        }
+        return () -> {
+            try (Scope ignored = restore()) {
+                return task.get();
+            }
+        };
+    }
+
+    public RequestAttributes getAttributes() {
+        return attributes;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public Deadline getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * 快照作用域
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final RequestContextSnapshot previous;
+
+        private final RequestAttributes previousAttributes;
+
+        private final LocaleContext previousLocaleContext;
+
+        private Scope(RequestContextSnapshot previous, RequestAttributes previousAttributes, LocaleContext previousLocaleContext) {
+            this.previous = previous;
+            this.previousAttributes = previousAttributes;
+            this.previousLocaleContext = previousLocaleContext;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+            RequestContextHolder.setRequestAttributes(previousAttributes);
+            LocaleContextHolder.setLocaleContext(previousLocaleContext);
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package project.core.controllers;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import project.core.singleflight.SingleFlight;
 
 /**
  * 基础控制器
+ * <p>
+ * 读接口可标注 {@link SingleFlight}，合并相同的并发请求
  *
  * @author tanwei
  * @date 2023-02-06 17:02
@@ -0,0 +1,154 @@
+package project.core.deadline;
+
+import project.core.constants.CommonHttpStatusEnum;
+import project.core.exception.BaseException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 请求截止时间
+ * <p>
+ * 由 DeadlineFilter 按请求头或路由默认值创建，业务代码通过 HttpServletUtil.getDeadline() 获取，
+ * 在耗时操作前调用 {@link #check()} 协作取消；到期由 {@link DeadlineWheel} 标记，不为每个请求创建线程或定时器对象
+ *
+ * @author tanwei
+ * @date 2026-10-18 17:10
+ **/
+public final class Deadline {
+
+    /**
+     * 保存在request中的属性名
+     */
+    public static final String ATTRIBUTE = Deadline.class.getName();
+
+    private static final int ACTIVE = 0;
+
+    /**
+     * 已到期，正在中断请求线程
+     */
+    private static final int EXPIRING = 1;
+
+    private static final int EXPIRED = 2;
+
+    /**
+     * 请求已结束，时间轮遇到时直接移除
+     */
+    private static final int DONE = 3;
+
+    /**
+     * 截止时间（System.nanoTime）
+     */
+    private final long deadlineNanos;
+
+    /**
+     * 到期时需要中断的线程，为空则只做标记
+     */
+    private final Thread thread;
+
+    /**
+     * 状态，只能从 ACTIVE 转换一次：到期（EXPIRING → EXPIRED）或请求结束（DONE），
+     * 保证中断只发生在请求结束之前，不会落到线程池中的下一个请求上
+     */
+    private final AtomicInteger state = new AtomicInteger(ACTIVE);
+
+    /* 以下字段只由时间轮线程访问 */
+
+    Deadline next;
+
+    Deadline prev;
+
+    long rounds;
+
+    private Deadline(long deadlineNanos, Thread thread) {
+        this.deadlineNanos = deadlineNanos;
+        this.thread = thread;
+    }
+
+    /**
+     * 创建截止时间
+     *
+     * @param timeout 超时时间
+     * @param unit    单位
+     * @return 截止时间
+     */
+    public static Deadline after(long timeout, TimeUnit unit) {
+        return new Deadline(System.nanoTime() + unit.toNanos(timeout), null);
+    }
+
+    /**
+     * 创建截止时间，到期时中断当前线程
+     *
+     * @param timeout 超时时间
+     * @param unit    单位
+     * @return 截止时间
+     */
+    public static Deadline afterInterruptibly(long timeout, TimeUnit unit) {
+        return new Deadline(System.nanoTime() + unit.toNanos(timeout), Thread.currentThread());
+    }
+
+    /**
+     * 剩余时间
+     *
+     * @param unit 单位
+     * @return 剩余时间，已到期返回0
+     */
+    public long remaining(TimeUnit unit) {
+        return Math.max(0, unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * 是否已到期
+     *
+     * @return 是否到期
+     */
+    public boolean isExpired() {
+        int current = state.get();
+        return current == EXPIRING || current == EXPIRED || deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * 已到期时抛出 {@link CommonHttpStatusEnum#REQUEST_TIMED_OUT} 业务异常
+     */
+    public void check() {
+        if (isExpired()) {
+            throw BaseException.of(CommonHttpStatusEnum.REQUEST_TIMED_OUT);
+        }
+    }
+
+    /**
+     * 标记请求结束，已到期时等待时间轮线程的中断完成后返回，调用方随后清除中断标记即可
+     */
+    public void done() {
+        if (state.compareAndSet(ACTIVE, DONE)) {
+            return;
+        }
+        while (state.get() == EXPIRING) {
+            Thread.yield();
+        }
+    }
+
+    boolean isDone() {
+        return state.get() == DONE;
+    }
+
+    long getDeadlineNanos() {
+        return deadlineNanos;
+    }
+
+    /**
+     * 时间轮线程调用
+     */
+    void expire() {
+        if (!state.compareAndSet(ACTIVE, EXPIRING)) {
+            return;
+        }
+        try {
+            if (thread != null) {
+                thread.interrupt();
+            }
+        } finally {
+            state.set(EXPIRED);
+        }
+    }
+}
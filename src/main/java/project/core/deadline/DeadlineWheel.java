@@ -0,0 +1,136 @@
+package project.core.deadline;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 截止时间时间轮
+ * <p>
+ * 单个守护线程按固定刻度推进，{@link Deadline} 自身就是时间轮的链表节点，登记时只入一个无锁队列；
+ * 请求结束后不主动移除，时间轮走到对应槽位时发现已结束再摘除
+ *
+ * @author tanwei
+ * @date 2026-10-18 17:20
+ **/
+@Slf4j
+public class DeadlineWheel {
+
+    private static final int WHEEL_SIZE = 512;
+
+    private static final int MASK = WHEEL_SIZE - 1;
+
+    private final Deadline[] wheel = new Deadline[WHEEL_SIZE];
+
+    private final Queue<Deadline> incoming = new ConcurrentLinkedQueue<>();
+
+    private final long tickNanos;
+
+    private final Thread worker;
+
+    private long startNanos;
+
+    private long tick;
+
+    private volatile boolean running = true;
+
+    /**
+     * @param tick 刻度
+     * @param unit 单位
+     */
+    public DeadlineWheel(long tick, TimeUnit unit) {
+        this.tickNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(1), unit.toNanos(tick));
+        this.worker = new Thread(this::run, "deadline-wheel");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * 登记截止时间
+     *
+     * @param deadline 截止时间
+     */
+    public void schedule(Deadline deadline) {
+        incoming.offer(deadline);
+    }
+
+    /**
+     * 停止时间轮
+     */
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        startNanos = System.nanoTime();
+        while (running) {
+            long next = startNanos + (tick + 1) * tickNanos;
+            long sleep = next - System.nanoTime();
+            if (sleep > 0) {
+                LockSupport.parkNanos(this, sleep);
+                continue;
+            }
+            try {
+                transfer();
+                expire(wheel[(int) (tick & MASK)]);
+            } catch (Throwable e) {
+                log.error("【截止时间轮异常】 {}", e.getMessage(), e);
+            }
+            tick++;
+        }
+    }
+
+    /**
+     * 把新登记的截止时间放入对应槽位
+     */
+    private void transfer() {
+        Deadline deadline;
+        while ((deadline = incoming.poll()) != null) {
+            if (deadline.isDone()) {
+                continue;
+            }
+            long ticks = Math.max(tick, (deadline.getDeadlineNanos() - startNanos) / tickNanos);
+            deadline.rounds = (ticks - tick) / WHEEL_SIZE;
+            int index = (int) (ticks & MASK);
+            deadline.prev = null;
+            deadline.next = wheel[index];
+            if (wheel[index] != null) {
+                wheel[index].prev = deadline;
+            }
+            wheel[index] = deadline;
+        }
+    }
+
+    private void expire(Deadline deadline) {
+        while (deadline != null) {
+            Deadline next = deadline.next;
+            if (deadline.isDone()) {
+                remove(deadline);
+            } else if (deadline.rounds <= 0) {
+                remove(deadline);
+                deadline.expire();
+            } else {
+                deadline.rounds--;
+            }
+            deadline = next;
+        }
+    }
+
+    private void remove(Deadline deadline) {
+        int index = (int) (tick & MASK);
+        if (deadline.prev != null) {
+            deadline.prev.next = deadline.next;
+        } else {
+            wheel[index] = deadline.next;
+        }
+        if (deadline.next != null) {
+            deadline.next.prev = deadline.prev;
+        }
+        deadline.next = null;
+        deadline.prev = null;
+    }
+}
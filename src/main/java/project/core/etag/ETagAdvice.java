@@ -0,0 +1,76 @@
+package project.core.etag;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import project.core.utils.ResultUtil;
+import project.core.utils.ResultWriter;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 自动ETag，project.core.etag.enabled=true 时开启
+ * <p>
+ * GET/HEAD请求以JSON返回 {@link ResultUtil} 时序列化到内存并计算ETag（响应头必须先于响应体写出），
+ * If-None-Match 匹配时直接返回304。控制器已通过 HttpServletUtil.checkNotModified 按版本号设置ETag时不再计算。
+ * 异常处理器的返回值不加ETag
+ *
+ * @author tanwei
+ * @date 2026-10-18 23:50
+ **/
+@Order(Ordered.LOWEST_PRECEDENCE)
+@RestControllerAdvice
+@ConditionalOnProperty(prefix = "project.core.etag", name = "enabled", havingValue = "true")
+public class ETagAdvice implements ResponseBodyAdvice<Object> {
+
+    @PostConstruct
+    public void init() {
+        ETagSupport.setEnabled(true);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        ETagSupport.setEnabled(false);
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return !returnType.hasMethodAnnotation(ExceptionHandler.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(body instanceof ResultUtil) || !ETagSupport.isJson(selectedContentType)
+                || !(request instanceof ServletServerHttpRequest) || !(response instanceof ServletServerHttpResponse)) {
+            return body;
+        }
+        HttpServletRequest servletRequest = ((ServletServerHttpRequest) request).getServletRequest();
+        HttpServletResponse servletResponse = ((ServletServerHttpResponse) response).getServletResponse();
+        if (!ETagSupport.isConditional(servletRequest) || servletResponse.containsHeader(HttpHeaders.ETAG)
+                || !response.getHeaders().isEmpty()) {
+            // 非GET/HEAD，已按版本号设置ETag，或有其它待写出的响应头，交给消息转换器
+            return body;
+        }
+
+        boolean written = ETagSupport.write(servletRequest, servletResponse, ResultWriter.toBytes((ResultUtil<?>) body),
+                selectedContentType.toString(), true);
+        // 未写出时交给消息转换器，不丢弃响应体
+        return written ? null : body;
+    }
+}
@@ -0,0 +1,158 @@
+package project.core.etag;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import project.core.utils.ErrorBodyUtil;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ETag计算与条件请求
+ * <p>
+ * 哈希为xxHash64的单段算法，每次处理8字节，不是加密哈希，只用于判断内容是否变化
+ *
+ * @author tanwei
+ * @date 2026-10-18 23:40
+ **/
+public final class ETagSupport {
+
+    private static final long P1 = 0x9E3779B185EBCA87L;
+    private static final long P2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long P3 = 0x165667B19E3779F9L;
+    private static final long P4 = 0x85EBCA77C2B2AE63L;
+    private static final long P5 = 0x27D4EB2F165667C5L;
+
+    private static volatile boolean enabled = false;
+
+    private ETagSupport() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        ETagSupport.enabled = enabled;
+    }
+
+    /**
+     * 按响应体计算强ETag
+     *
+     * @param body 响应体
+     * @return ETag，含双引号
+     */
+    public static String etag(byte[] body) {
+        return quote(hash(body, 0, body.length));
+    }
+
+    /**
+     * 按版本号计算强ETag，内容未变化时控制器可不查询数据、不序列化
+     *
+     * @param version 版本号，如实体的版本、更新时间
+     * @return ETag，含双引号
+     */
+    public static String versionTag(Object version) {
+        byte[] bytes = String.valueOf(version).getBytes(StandardCharsets.UTF_8);
+        return "\"v" + Long.toHexString(hash(bytes, 0, bytes.length)) + '"';
+    }
+
+    /**
+     * 写出已序列化的响应体，开启时附带ETag，If-None-Match 匹配时返回304不写响应体
+     *
+     * @param request     请求
+     * @param response    响应
+     * @param body        UTF-8编码的响应体
+     * @param contentType 响应类型，消息转换器选定的类型
+     * @param tag         是否计算ETag，异常处理器的返回值（同样是200）传false
+     * @return 是否写出，返回false时响应未写出，由调用方交给消息转换器
+     */
+    public static boolean write(HttpServletRequest request, HttpServletResponse response, byte[] body,
+                                String contentType, boolean tag) {
+        if (tag && enabled && isConditional(request) && response.getStatus() == HttpStatus.OK.value()
+                && !response.containsHeader(HttpHeaders.ETAG)) {
+            String etag = etag(body);
+            response.setHeader(HttpHeaders.ETAG, etag);
+            if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+                response.setStatus(HttpStatus.NOT_MODIFIED.value());
+                return true;
+            }
+        }
+        return ErrorBodyUtil.write(response, body, contentType);
+    }
+
+    /**
+     * 是否为可条件请求的GET/HEAD
+     *
+     * @param request 请求
+     * @return 是否GET/HEAD
+     */
+    public static boolean isConditional(HttpServletRequest request) {
+        String method = request.getMethod();
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method);
+    }
+
+    /**
+     * 是否为JSON类型（application/json 或 application/*+json）
+     *
+     * @param contentType 响应类型
+     * @return 是否JSON
+     */
+    public static boolean isJson(MediaType contentType) {
+        return contentType != null && !contentType.isWildcardType() && !contentType.isWildcardSubtype()
+                && (MediaType.APPLICATION_JSON.isCompatibleWith(contentType) || contentType.getSubtype().endsWith("+json"));
+    }
+
+    /**
+     * If-None-Match 是否包含ETag，按弱比较
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if ("*".equals(value) || etag.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String quote(long hash) {
+        return '"' + Long.toHexString(hash) + '"';
+    }
+
+    static long hash(byte[] bytes, int offset, int length) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length).order(ByteOrder.LITTLE_ENDIAN);
+        long hash = P5 + length;
+        while (buffer.remaining() >= 8) {
+            long k = buffer.getLong() * P2;
+            k = Long.rotateLeft(k, 31) * P1;
+            hash ^= k;
+            hash = Long.rotateLeft(hash, 27) * P1 + P4;
+        }
+        if (buffer.remaining() >= 4) {
+            hash ^= (buffer.getInt() & 0xFFFFFFFFL) * P1;
+            hash = Long.rotateLeft(hash, 23) * P2 + P3;
+        }
+        while (buffer.hasRemaining()) {
+            hash ^= (buffer.get() & 0xFF) * P5;
+            hash = Long.rotateLeft(hash, 11) * P1;
+        }
+        hash ^= hash >>> 33;
+        hash *= P2;
+        hash ^= hash >>> 29;
+        hash *= P3;
+        hash ^= hash >>> 32;
+        return hash;
+    }
+}
@@ -1,9 +1,13 @@
 package project.core.exception;
 
 
-import cn.hutool.core.util.StrUtil;
 import project.core.constants.BaseExceptionEnum;
 import project.core.constants.CommonHttpStatusEnum;
+import project.core.utils.MessageTemplate;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 自定义基础 - 异常
@@ -13,6 +17,21 @@ import project.core.constants.CommonHttpStatusEnum;
  */
 public class BaseException extends RuntimeException {
 
+    /**
+     * 全局无堆栈模式，开启后业务异常不再采集堆栈（见 project.core.exception.stackless）
+     */
+    private static volatile boolean stackless = false;
+
+    /**
+     * 调试开关，开启后无论是否无堆栈模式都采集堆栈（见 project.core.exception.debug）
+     */
+    private static volatile boolean debug = false;
+
+    /**
+     * 无参枚举异常的单例缓存，只缓存枚举常量，数量有限
+     */
+    private static final Map<BaseExceptionEnum, BaseException> CACHED = new ConcurrentHashMap<>();
+
     /**
      * 业务响应码
      */
@@ -28,11 +47,23 @@ public class BaseException extends RuntimeException {
      */
     private final Object[] params;
 
+    /**
+     * 格式化后的提示信息，首次获取时生成
+     */
+    private transient volatile String message;
+
+    /**
+     * @param stackless 是否不采集堆栈，用于高频的业务拒绝等控制流异常
+     * @param code      业务响应码
+     * @param message   提示信息
+     * @param params    填充message使用的参数
+     */
+    public BaseException(boolean stackless, Integer code, String message, Object... params) {
+        this(stackless, true, code, message, params);
+    }
+
     public BaseException(Integer code, String message, Object... params) {
-        super(message);
-        this.code = code;
-        this.formatMessage = message;
-        this.params = params;
+        this(BaseException.stackless, code, message, params);
     }
 
     public BaseException() {
@@ -59,6 +90,61 @@ public class BaseException extends RuntimeException {
         this(baseError.getCode(), message, params);
     }
 
+    /**
+     * 共享实例不允许追加suppressed，也不允许修改堆栈
+     */
+    private BaseException(boolean stackless, boolean mutable, Integer code, String message, Object... params) {
+        super(message, null, mutable, debug || !stackless);
+        this.code = code;
+        this.formatMessage = message;
+        this.params = params;
+    }
+
+    /**
+     * 获取无参枚举对应的异常实例
+     * <p>
+     * 枚举常量返回缓存的无堆栈单例，可直接 throw，省去每次创建及采集堆栈的开销；
+     * 调试开关开启时每次返回新的带堆栈实例
+     *
+     * @param baseError 异常枚举
+     * @return 异常实例
+     */
+    public static BaseException of(BaseExceptionEnum baseError) {
+        if (debug) {
+            return new BaseException(baseError);
+        }
+        if (!(baseError instanceof Enum)) {
+            return new BaseException(true, baseError.getCode(), baseError.getMessage());
+        }
+        return CACHED.computeIfAbsent(baseError,
+                key -> new BaseException(true, false, key.getCode(), key.getMessage()));
+    }
+
+    /**
+     * 设置全局无堆栈模式
+     *
+     * @param stackless 是否不采集堆栈
+     */
+    public static void setStackless(boolean stackless) {
+        BaseException.stackless = stackless;
+    }
+
+    public static boolean isStackless() {
+        return stackless;
+    }
+
+    /**
+     * 设置调试开关，开启后所有异常都采集堆栈
+     *
+     * @param debug 是否调试
+     */
+    public static void setDebug(boolean debug) {
+        BaseException.debug = debug;
+    }
+
+    public static boolean isDebug() {
+        return debug;
+    }
 
     public Integer getCode() {
         return code;
@@ -74,7 +160,24 @@ public class BaseException extends RuntimeException {
 
     @Override
     public String getMessage() {
-        return StrUtil.format(formatMessage, params);
+        String message = this.message;
+        if (message == null) {
+            message = formatMessage == null ? null : MessageTemplate.of(formatMessage).format(params);
+            this.message = message;
+        }
+        return message;
+    }
+
+    /**
+     * 获取指定语言的提示信息，消息目录中没有对应错误码时返回默认提示信息
+     *
+     * @param locale 语言
+     * @return 提示信息
+     * @see ErrorMessageCatalog
+     */
+    public String getMessage(Locale locale) {
+        MessageTemplate template = ErrorMessageCatalog.get(code, locale);
+        return template == null ? getMessage() : template.format(params);
     }
 
     @Override
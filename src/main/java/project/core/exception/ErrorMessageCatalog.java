@@ -0,0 +1,109 @@
+package project.core.exception;
+
+import cn.hutool.core.util.StrUtil;
+import lombok.extern.slf4j.Slf4j;
+import project.core.utils.MessageTemplate;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 按错误码的多语言消息目录
+ * <p>
+ * 消息在注册时预编译为 {@link MessageTemplate}，请求时按 语言+地区 → 语言 的顺序查找，
+ * 找不到返回null，由调用方回退到异常自带的消息
+ *
+ * @author tanwei
+ * @date 2026-10-18 11:05
+ **/
+@Slf4j
+public final class ErrorMessageCatalog {
+
+    /**
+     * locale -> (错误码 -> 模板)，每个locale的表注册后整体替换，读取无锁
+     */
+    private static final Map<Locale, Map<Integer, MessageTemplate>> CATALOG = new ConcurrentHashMap<>();
+
+    private ErrorMessageCatalog() {
+    }
+
+    /**
+     * 从ResourceBundle加载，key为错误码，value为消息模板
+     *
+     * @param baseName bundle名称，如 i18n/error
+     * @param locale   语言
+     */
+    public static void load(String baseName, Locale locale) {
+        ResourceBundle bundle;
+        try {
+            bundle = ResourceBundle.getBundle(baseName, locale);
+        } catch (MissingResourceException e) {
+            log.error("【错误消息目录】未找到 {} {}", baseName, locale);
+            return;
+        }
+
+        Map<Integer, String> messages = new HashMap<>(64);
+        for (String key : bundle.keySet()) {
+            try {
+                messages.put(Integer.valueOf(key.trim()), bundle.getString(key));
+            } catch (NumberFormatException e) {
+                log.error("【错误消息目录】忽略非错误码的key {} {}", baseName, key);
+            }
+        }
+        register(locale, messages);
+    }
+
+    /**
+     * 注册（覆盖）某个语言的全部消息
+     *
+     * @param locale   语言
+     * @param messages 错误码 -> 消息模板
+     */
+    public static void register(Locale locale, Map<Integer, String> messages) {
+        Map<Integer, MessageTemplate> templates = new HashMap<>(messages.size() * 2);
+        messages.forEach((code, message) -> templates.put(code, MessageTemplate.of(message)));
+        CATALOG.put(locale, Collections.unmodifiableMap(templates));
+    }
+
+    /**
+     * 查找模板
+     *
+     * @param code   错误码
+     * @param locale 语言
+     * @return 模板，没有返回null
+     */
+    public static MessageTemplate get(Integer code, Locale locale) {
+        if (code == null || locale == null || CATALOG.isEmpty()) {
+            return null;
+        }
+
+        Map<Integer, MessageTemplate> templates = CATALOG.get(locale);
+        MessageTemplate template = templates == null ? null : templates.get(code);
+        if (template == null && StrUtil.isNotEmpty(locale.getCountry())) {
+            templates = CATALOG.get(new Locale(locale.getLanguage()));
+            template = templates == null ? null : templates.get(code);
+        }
+        return template;
+    }
+
+    /**
+     * 是否注册了任何消息
+     *
+     * @return 是否为空
+     */
+    public static boolean isEmpty() {
+        return CATALOG.isEmpty();
+    }
+
+    /**
+     * 清空
+     */
+    public static void clear() {
+        CATALOG.clear();
+    }
+}
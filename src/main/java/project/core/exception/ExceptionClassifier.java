@@ -0,0 +1,110 @@
+package project.core.exception;
+
+import project.core.constants.BaseExceptionEnum;
+import project.core.constants.CommonHttpStatusEnum;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 未捕获异常分类
+ * <p>
+ * 按异常类型（包括父类）映射到 {@link BaseExceptionEnum}，沿cause链逐层查找，最外层命中的优先。
+ * 每个类的父类查找结果缓存在 {@link ClassValue} 中，只在第一次遇到该类时计算，不再扫描异常消息。
+ * 按类名登记，类不在classpath上时不需要引用它；业务服务可通过 {@link #register(Class, BaseExceptionEnum)} 扩展
+ *
+ * @author tanwei
+ * @date 2026-10-19 15:00
+ **/
+public final class ExceptionClassifier {
+
+    /**
+     * cause链最多查找的层数，防止循环引用
+     */
+    private static final int MAX_DEPTH = 16;
+
+    /**
+     * 类名 -> 分类
+     */
+    private static final Map<String, BaseExceptionEnum> RULES = new ConcurrentHashMap<>(16);
+
+    /**
+     * 登记变化时整体替换，旧的缓存随之失效
+     */
+    private static volatile ClassValue<Optional<BaseExceptionEnum>> cache = newCache();
+
+    static {
+        // ribbon 无可用服务
+        register("com.netflix.client.ClientException", CommonHttpStatusEnum.SERVICE_UNAVAILABLE);
+    }
+
+    private ExceptionClassifier() {
+    }
+
+    /**
+     * 登记分类，子类同样适用
+     *
+     * @param type   异常类型
+     * @param status 分类
+     */
+    public static void register(Class<? extends Throwable> type, BaseExceptionEnum status) {
+        register(type.getName(), status);
+    }
+
+    /**
+     * 按类名登记分类，子类同样适用
+     *
+     * @param className 异常类名
+     * @param status    分类
+     */
+    public static void register(String className, BaseExceptionEnum status) {
+        RULES.put(className, status);
+        cache = newCache();
+    }
+
+    /**
+     * 移除分类
+     *
+     * @param className 异常类名
+     */
+    public static void unregister(String className) {
+        if (RULES.remove(className) != null) {
+            cache = newCache();
+        }
+    }
+
+    /**
+     * 分类
+     *
+     * @param e 异常
+     * @return 分类，未登记返回null
+     */
+    public static BaseExceptionEnum classify(Throwable e) {
+        ClassValue<Optional<BaseExceptionEnum>> current = cache;
+        Throwable throwable = e;
+        for (int depth = 0; throwable != null && depth < MAX_DEPTH; depth++) {
+            Optional<BaseExceptionEnum> status = current.get(throwable.getClass());
+            if (status.isPresent()) {
+                return status.get();
+            }
+            throwable = throwable.getCause();
+        }
+        return null;
+    }
+
+    private static ClassValue<Optional<BaseExceptionEnum>> newCache() {
+        return new ClassValue<Optional<BaseExceptionEnum>>() {
+            @Override
+            protected Optional<BaseExceptionEnum> computeValue(Class<?> type) {
+                for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                    BaseExceptionEnum status = RULES.get(current.getName());
+                    if (status != null) {
+                        return Optional.of(status);
+                    }
+                }
+                return Optional.empty();
+            }
+        };
+    }
+}
@@ -0,0 +1,257 @@
+package project.core.exception;
+
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import project.core.metrics.ErrorMetrics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 异常日志风暴抑制
+ * <p>
+ * 按 处理器 + 异常类 + 错误码 + 抛出位置 生成指纹，每个指纹在一个窗口内只完整打印前N次，
+ * 之后只做无锁计数，由后台线程在窗口结束时输出一行汇总。不采集堆栈的业务异常没有抛出位置，不产生额外开销。未开启时直接打印，与原来的行为一致。
+ * 同时按处理器和异常类记录 {@link ErrorMetrics}
+ *
+ * @author tanwei
+ * @date 2026-10-18 19:10
+ **/
+@Slf4j
+public final class ExceptionLogger {
+
+    /**
+     * 最多跟踪的指纹数，超出的异常计入溢出计数
+     */
+    private static final int MAX_FINGERPRINTS = 10000;
+
+    private static final Map<Fingerprint, Counter> COUNTERS = new ConcurrentHashMap<>(256);
+
+    private static final LongAdder OVERFLOW = new LongAdder();
+
+    /**
+     * 已移除的计数，error() 拿到后重新获取
+     */
+    private static final int RETIRED = Integer.MIN_VALUE;
+
+    private static volatile boolean enabled = false;
+
+    private static volatile Rule defaultRule = new Rule(10, TimeUnit.MINUTES.toNanos(1));
+
+    private static volatile Map<String, Rule> rules = Collections.emptyMap();
+
+    private static ScheduledExecutorService flusher;
+
+    private ExceptionLogger() {
+    }
+
+    /**
+     * 开启抑制
+     *
+     * @param threshold     每个窗口完整打印的次数
+     * @param windowSeconds 窗口（秒）
+     * @param handlerRules  按处理器方法名的规则，值为 {阈值, 窗口秒数}
+     */
+    public static synchronized void enable(int threshold, long windowSeconds, Map<String, long[]> handlerRules) {
+        defaultRule = new Rule(threshold, TimeUnit.SECONDS.toNanos(windowSeconds));
+        Map<String, Rule> map = new HashMap<>(handlerRules.size() * 2);
+        handlerRules.forEach((handler, rule) -> map.put(handler, new Rule((int) rule[0], TimeUnit.SECONDS.toNanos(rule[1]))));
+        rules = map;
+        enabled = true;
+
+        if (flusher == null) {
+            flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "exception-log-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(ExceptionLogger::flush, 1, 1, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 关闭抑制，输出剩余汇总
+     */
+    public static synchronized void disable() {
+        enabled = false;
+        if (flusher != null) {
+            flusher.shutdownNow();
+            flusher = null;
+        }
+        flush(true);
+        COUNTERS.clear();
+    }
+
+    /**
+     * 打印异常日志，参数与slf4j一致，最后一个参数为异常时打印堆栈
+     *
+     * @param logger  日志
+     * @param handler 处理器方法名
+     * @param e       异常
+     * @param format  日志格式
+     * @param args    参数
+     */
+    public static void error(Logger logger, String handler, Throwable e, String format, Object... args) {
+        // 每个全局异常处理器都经过这里，顺带记录指标
+        ErrorMetrics.recordException(handler, e.getClass());
+        if (!enabled) {
+            logger.error(format, args);
+            return;
+        }
+
+        Fingerprint fingerprint = fingerprint(handler, e);
+        Counter counter;
+        int logged;
+        while (true) {
+            counter = counter(fingerprint);
+            if (counter == null) {
+                OVERFLOW.increment();
+                return;
+            }
+            logged = counter.logged.incrementAndGet();
+            if (logged > 0) {
+                break;
+            }
+            // 汇总线程刚移除了这个计数，换一个新的，不丢失本次计数
+            COUNTERS.remove(fingerprint, counter);
+        }
+        if (logged <= counter.rule.threshold) {
+            logger.error(format, args);
+        } else {
+            counter.suppressed.increment();
+        }
+    }
+
+    private static Fingerprint fingerprint(String handler, Throwable e) {
+        StackTraceElement[] stackTrace = e.getStackTrace();
+        Integer code = e instanceof BaseException ? ((BaseException) e).getCode() : null;
+        return new Fingerprint(handler, e.getClass(), code, stackTrace.length > 0 ? stackTrace[0] : null);
+    }
+
+    private static Counter counter(Fingerprint fingerprint) {
+        Counter counter = COUNTERS.get(fingerprint);
+        if (counter != null || COUNTERS.size() >= MAX_FINGERPRINTS) {
+            return counter;
+        }
+        return COUNTERS.computeIfAbsent(fingerprint, key -> new Counter(rules.getOrDefault(key.handler, defaultRule)));
+    }
+
+    private static void flush() {
+        try {
+            flush(false);
+        } catch (Throwable e) {
+            log.error("【异常日志汇总异常】 {}", e.getMessage());
+        }
+    }
+
+    private static void flush(boolean force) {
+        long now = System.nanoTime();
+        for (Map.Entry<Fingerprint, Counter> entry : COUNTERS.entrySet()) {
+            Counter counter = entry.getValue();
+            if (!force && now - counter.windowStart < counter.rule.windowNanos) {
+                continue;
+            }
+            long suppressed = counter.suppressed.sumThenReset();
+            int logged = counter.logged.getAndSet(0);
+            counter.windowStart = now;
+            if (suppressed > 0) {
+                Fingerprint fingerprint = entry.getKey();
+                log.error("【异常日志汇总】 {} {} code={} at {} 最近{}秒重复 {} 次未打印",
+                        fingerprint.handler, fingerprint.type.getName(), fingerprint.code, fingerprint.site,
+                        TimeUnit.NANOSECONDS.toSeconds(counter.rule.windowNanos), suppressed);
+            }
+            // 整个窗口没有发生，不再跟踪；重新确认期间没有新的计数，error() 拿到已移除的计数会重新获取
+            if (logged == 0 && counter.logged.compareAndSet(0, RETIRED)) {
+                COUNTERS.remove(entry.getKey(), counter);
+            }
+        }
+
+        long overflow = OVERFLOW.sumThenReset();
+        if (overflow > 0) {
+            log.error("【异常日志汇总】 指纹数超过{}，{} 次异常未打印", MAX_FINGERPRINTS, overflow);
+        }
+    }
+
+    /**
+     * 抑制规则
+     */
+    private static class Rule {
+
+        private final int threshold;
+
+        private final long windowNanos;
+
+        Rule(int threshold, long windowNanos) {
+            this.threshold = threshold;
+            this.windowNanos = windowNanos;
+        }
+    }
+
+    /**
+     * 指纹计数
+     */
+    private static class Counter {
+
+        private final Rule rule;
+
+        private final AtomicInteger logged = new AtomicInteger();
+
+        private final LongAdder suppressed = new LongAdder();
+
+        private volatile long windowStart = System.nanoTime();
+
+        Counter(Rule rule) {
+            this.rule = rule;
+        }
+    }
+
+    /**
+     * 异常指纹
+     */
+    private static class Fingerprint {
+
+        private final String handler;
+
+        private final Class<?> type;
+
+        private final Integer code;
+
+        private final StackTraceElement site;
+
+        private final int hash;
+
+        Fingerprint(String handler, Class<?> type, Integer code, StackTraceElement site) {
+            this.handler = handler;
+            this.type = type;
+            this.code = code;
+            this.site = site;
+            this.hash = Objects.hash(handler, type, code, site);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Fingerprint)) {
+                return false;
+            }
+            Fingerprint that = (Fingerprint) o;
+            return hash == that.hash && type == that.type && Objects.equals(handler, that.handler)
+                    && Objects.equals(code, that.code) && Objects.equals(site, that.site);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -1,9 +1,10 @@
 package project.core.exception;
 
-import cn.hutool.core.util.StrUtil;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import project.core.constants.BaseExceptionEnum;
 import project.core.constants.CommonHttpStatusEnum;
 import project.core.utils.ResultUtil;
 
@@ -22,11 +23,12 @@ public class GlobalBaseExceptionHandler {
      */
     @ExceptionHandler(value = BaseException.class)
     public ResultUtil<String> baseException(BaseException e) {
-        log.error("【全局异常-业务异常】 {}", e.getMessage());
+        ExceptionLogger.error(log, "baseException", e, "【全局异常-业务异常】 {}", e.getMessage());
+        String message = e.getMessage(LocaleContextHolder.getLocale());
         if (e.getCode() != null) {
-            return ResultUtil.error(e.getMessage(), e.getCode());
+            return ResultUtil.error(message, e.getCode());
         }
-        return ResultUtil.error(e.getMessage());
+        return ResultUtil.error(message);
     }
 
     /**
@@ -34,12 +36,14 @@ public class GlobalBaseExceptionHandler {
      */
     @ExceptionHandler(value = Exception.class)
     public ResultUtil<String> handleException(Exception e) {
-        if (StrUtil.contains(e.getMessage(), "com.netflix.client.ClientException")) {
-            log.error("【全局异常-无可用服务】 {}", e.getMessage());
-            return ResultUtil.error(CommonHttpStatusEnum.SERVICE_UNAVAILABLE);
+        // 按异常类型及cause链分类，如ribbon无可用服务
+        BaseExceptionEnum status = ExceptionClassifier.classify(e);
+        if (status != null) {
+            ExceptionLogger.error(log, "handleException", e, "【全局异常-{}】 {}", status.getMessage(), e.getMessage());
+            return ResultUtil.error(status);
         }
 
-        log.error("【全局异常-未捕获异常】 " + e.getMessage(), e);
+        ExceptionLogger.error(log, "handleException", e, "【全局异常-未捕获异常】 {}", e.getMessage(), e);
         return ResultUtil.error(CommonHttpStatusEnum.INTERNAL_SERVER_ERROR + ": " + e.getMessage());
     }
 }
@@ -17,6 +17,7 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 import org.springframework.web.multipart.support.MissingServletRequestPartException;
 import org.springframework.web.servlet.NoHandlerFoundException;
 import project.core.constants.CommonHttpStatusEnum;
+import project.core.exception.ExceptionLogger;
 import project.core.utils.ResultUtil;
 
 import javax.servlet.ServletException;
@@ -40,7 +41,7 @@ public class GlobalDefaultExceptionHandler {
      */
     @ExceptionHandler(value = NullPointerException.class)
     public ResultUtil<String> handlerNullPointerException(NullPointerException e) {
-        log.error("【全局异常-空指针】 {}", e.getMessage());
+        ExceptionLogger.error(log, "handlerNullPointerException", e, "【全局异常-空指针】 {}", e.getMessage());
         return ResultUtil.error(CommonHttpStatusEnum.BAD_REQUEST);
     }
 
@@ -49,7 +50,7 @@ public class GlobalDefaultExceptionHandler {
      */
     @ExceptionHandler(value = NoHandlerFoundException.class)
     public ResultUtil<String> handlerNoFoundException(NoHandlerFoundException e) {
-        log.error("【全局异常-资源不存在】 {} {}", e.getMessage(), e.getRequestURL());
+        ExceptionLogger.error(log, "handlerNoFoundException", e, "【全局异常-资源不存在】 {} {}", e.getMessage(), e.getRequestURL());
         return ResultUtil.error(CommonHttpStatusEnum.BAD_REQUEST);
     }
 
@@ -58,7 +59,7 @@ public class GlobalDefaultExceptionHandler {
      */
     @ExceptionHandler(value = HttpRequestMethodNotSupportedException.class)
     public ResultUtil<String> handlerHttpRequestMethodNotSupportedException(HttpRequestMethodNotSupportedException e) {
-        log.error("【全局异常-请求方法不存在】 {} ", e.getMessage());
+        ExceptionLogger.error(log, "handlerHttpRequestMethodNotSupportedException", e, "【全局异常-请求方法不存在】 {} ", e.getMessage());
         return ResultUtil.error(CommonHttpStatusEnum.BAD_REQUEST);
     }
 
@@ -67,7 +68,7 @@ public class GlobalDefaultExceptionHandler {
      */
     @ExceptionHandler(value = IllegalArgumentException.class)
     public ResultUtil<String> handlerIllegalArgumentException(IllegalArgumentException e) {
-        log.error("【全局异常-非法参数异常】 {}", e.getMessage());
+        ExceptionLogger.error(log, "handlerIllegalArgumentException", e, "【全局异常-非法参数异常】 {}", e.getMessage());
         return ResultUtil.error(CommonHttpStatusEnum.BAD_REQUEST + ": " + e.getMessage());
     }
 
@@ -76,7 +77,7 @@ public class GlobalDefaultExceptionHandler {
      */
     @ExceptionHandler(value = HttpMessageConversionException.class)
     public ResultUtil<String> handlerHttpMessageConversionException(HttpMessageConversionException e) {
-        log.error("【全局异常-请求参数转换错误】 {}", e.getMessage());
+        ExceptionLogger.error(log, "handlerHttpMessageConversionException", e, "【全局异常-请求参数转换错误】 {}", e.getMessage());
         return ResultUtil.error(CommonHttpStatusEnum.BAD_REQUEST);
     }
 
@@ -85,7 +86,7 @@ public class GlobalDefaultExceptionHandler {
      */
     @ExceptionHandler(value = MethodArgumentTypeMismatchException.class)
     public ResultUtil<String> handlerMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException e) {
-        log.error("【全局异常-请求参数转换异常】 {}", e.getMessage());
+        ExceptionLogger.error(log, "handlerMethodArgumentTypeMismatchException", e, "【全局异常-请求参数转换异常】 {}", e.getMessage());
         return ResultUtil.error(CommonHttpStatusEnum.BAD_REQUEST);
     }
 
@@ -97,7 +98,7 @@ public class GlobalDefaultExceptionHandler {
         String message = e.getFieldErrors().stream()
                 .map(objectError -> objectError.getField() + objectError.getDefaultMessage())
                 .collect(Collectors.joining(StrUtil.COMMA));
-        log.error("【全局异常-数据绑定异常】 {}", message);
+        ExceptionLogger.error(log, "validatedBindException", e, "【全局异常-数据绑定异常】 {}", message);
         return ResultUtil.error(message, CommonHttpStatusEnum.BAD_REQUEST);
     }
 
@@ -120,7 +121,7 @@ public class GlobalDefaultExceptionHandler {
             String solveScheme = "To solve the issue, add the constraints to the interface method instead of the implementation method.";
             error = e.getMessage() + StrUtil.COMMA + solveScheme;
         }
-        log.error("【全局异常-方法参数验证异常】 {}", error);
+        ExceptionLogger.error(log, "validatedExceptionHandler", e, "【全局异常-方法参数验证异常】 {}", error);
         return ResultUtil.error(error, CommonHttpStatusEnum.BAD_REQUEST);
     }
 
@@ -132,7 +133,7 @@ public class GlobalDefaultExceptionHandler {
         String message = e.getBindingResult().getFieldErrors().stream()
                 .map(objectError -> objectError.getField() + objectError.getDefaultMessage())
                 .collect(Collectors.joining(StrUtil.COMMA));
-        log.error("【全局异常-方法参数验证异常】 {}", message);
+        ExceptionLogger.error(log, "handlerMethodArgumentNotValidException", e, "【全局异常-方法参数验证异常】 {}", message);
         return ResultUtil.error(message, CommonHttpStatusEnum.BAD_REQUEST);
     }
 
@@ -141,7 +142,7 @@ public class GlobalDefaultExceptionHandler {
      */
     @ExceptionHandler(value = {MissingServletRequestPartException.class, MissingServletRequestParameterException.class})
     public ResultUtil<String> validExceptionHandler(ServletException e) {
-        log.error("【全局异常-必须的参数不存在】 {}", e.getMessage());
+        ExceptionLogger.error(log, "handlerServletException", e, "【全局异常-必须的参数不存在】 {}", e.getMessage());
         String parameterName = "";
         if (e instanceof MissingServletRequestPartException) {
             MissingServletRequestPartException exception = (MissingServletRequestPartException) e;
@@ -161,7 +162,7 @@ public class GlobalDefaultExceptionHandler {
      */
     @ExceptionHandler(value = HttpMessageNotReadableException.class)
     public ResultUtil<?> validExceptionHandler(HttpMessageNotReadableException e) {
-        log.error("【全局异常-请求体不存在】 {}", e.getMessage());
+        ExceptionLogger.error(log, "handlerHttpMessageNotReadableException", e, "【全局异常-请求体不存在】 {}", e.getMessage());
         return ResultUtil.error("接口请求体不存在", CommonHttpStatusEnum.BAD_REQUEST);
     }
 
@@ -170,7 +171,7 @@ public class GlobalDefaultExceptionHandler {
      */
     @ExceptionHandler(value = MismatchedInputException.class)
     public ResultUtil<?> validExceptionHandler(MismatchedInputException e) {
-        log.error("【全局异常-请求体参数类型错误】 {}", e.getMessage());
+        ExceptionLogger.error(log, "handlerMismatchedInputException", e, "【全局异常-请求体参数类型错误】 {}", e.getMessage());
         return ResultUtil.error("请求体参数类型错误", CommonHttpStatusEnum.BAD_REQUEST);
     }
 
@@ -179,7 +180,7 @@ public class GlobalDefaultExceptionHandler {
      */
     @ExceptionHandler(value = UnexpectedTypeException.class)
     public ResultUtil<String> validExceptionHandler(UnexpectedTypeException e) {
-        log.error("【全局异常-不支持类型异常】 {}", e.getMessage());
+        ExceptionLogger.error(log, "handlerUnexpectedTypeException", e, "【全局异常-不支持类型异常】 {}", e.getMessage());
         return ResultUtil.error(CommonHttpStatusEnum.UNSUPPORTED_MEDIA_TYPE);
     }
 
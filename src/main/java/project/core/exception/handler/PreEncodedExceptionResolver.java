@@ -0,0 +1,187 @@
+package project.core.exception.handler;
+
+import cn.hutool.core.util.ArrayUtil;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageConversionException;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BindException;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.method.annotation.ExceptionHandlerMethodResolver;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.multipart.support.MissingServletRequestPartException;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.NoHandlerFoundException;
+import project.core.constants.CommonHttpStatusEnum;
+import project.core.exception.BaseException;
+import project.core.exception.ErrorMessageCatalog;
+import project.core.exception.ExceptionLogger;
+import project.core.metrics.ErrorMetrics;
+import project.core.utils.ErrorBodyUtil;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.validation.UnexpectedTypeException;
+import javax.validation.ValidationException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 预编码 - 异常快速处理器
+ * <p>
+ * 对 {@link GlobalDefaultExceptionHandler} 中返回固定内容的异常，以及不带参数的 {@link BaseException}，
+ * 直接把预编码的响应体写到响应流；其余异常（带参数的消息）返回null，交给全局异常处理器处理。
+ * 会抢在业务方自定义的 @RestControllerAdvice 之前执行，需通过 project.core.exception.fast-path.enabled=true 开启；
+ * 控制器类中声明了 @ExceptionHandler 时不处理，保留控制器自己的异常处理
+ *
+ * @author tanwei
+ * @date 2026-10-18 11:58
+ **/
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "project.core.exception.fast-path", name = "enabled", havingValue = "true")
+public class PreEncodedExceptionResolver implements HandlerExceptionResolver, Ordered {
+
+    /**
+     * 交给全局异常处理器处理的异常
+     */
+    private static final FastError FALLBACK = new FastError(null, null, null);
+
+    /**
+     * 与GlobalDefaultExceptionHandler中的@ExceptionHandler一一对应
+     */
+    private static final Map<Class<?>, FastError> REGISTERED = new HashMap<>(32);
+
+    static {
+        REGISTERED.put(NullPointerException.class, new FastError("handlerNullPointerException", "【全局异常-空指针】", CommonHttpStatusEnum.BAD_REQUEST));
+        REGISTERED.put(NoHandlerFoundException.class, new FastError("handlerNoFoundException", "【全局异常-资源不存在】", CommonHttpStatusEnum.BAD_REQUEST));
+        REGISTERED.put(HttpRequestMethodNotSupportedException.class, new FastError("handlerHttpRequestMethodNotSupportedException", "【全局异常-请求方法不存在】", CommonHttpStatusEnum.BAD_REQUEST));
+        REGISTERED.put(HttpMessageConversionException.class, new FastError("handlerHttpMessageConversionException", "【全局异常-请求参数转换错误】", CommonHttpStatusEnum.BAD_REQUEST));
+        REGISTERED.put(MethodArgumentTypeMismatchException.class, new FastError("handlerMethodArgumentTypeMismatchException", "【全局异常-请求参数转换异常】", CommonHttpStatusEnum.BAD_REQUEST));
+        REGISTERED.put(HttpMessageNotReadableException.class, new FastError("handlerHttpMessageNotReadableException", "【全局异常-请求体不存在】", "接口请求体不存在", CommonHttpStatusEnum.BAD_REQUEST));
+        REGISTERED.put(MismatchedInputException.class, new FastError("handlerMismatchedInputException", "【全局异常-请求体参数类型错误】", "请求体参数类型错误", CommonHttpStatusEnum.BAD_REQUEST));
+        REGISTERED.put(UnexpectedTypeException.class, new FastError("handlerUnexpectedTypeException", "【全局异常-不支持类型异常】", CommonHttpStatusEnum.UNSUPPORTED_MEDIA_TYPE));
+
+        // 消息中带参数，走全局异常处理器
+        REGISTERED.put(IllegalArgumentException.class, FALLBACK);
+        REGISTERED.put(BindException.class, FALLBACK);
+        REGISTERED.put(ValidationException.class, FALLBACK);
+        REGISTERED.put(MissingServletRequestPartException.class, FALLBACK);
+        REGISTERED.put(MissingServletRequestParameterException.class, FALLBACK);
+    }
+
+    /**
+     * 异常类 -> 最近的已注册父类，与@ExceptionHandler按继承距离匹配的规则一致，每个类只计算一次
+     */
+    private static final ClassValue<FastError> RESOLVED = new ClassValue<FastError>() {
+        @Override
+        protected FastError computeValue(Class<?> type) {
+            for (Class<?> current = type; current != null && current != Throwable.class; current = current.getSuperclass()) {
+                FastError fastError = REGISTERED.get(current);
+                if (fastError != null) {
+                    return fastError;
+                }
+            }
+            return FALLBACK;
+        }
+    };
+
+    /**
+     * 控制器类是否声明了自己的 @ExceptionHandler，每个类只解析一次
+     */
+    private static final ClassValue<Boolean> LOCAL_HANDLERS = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return new ExceptionHandlerMethodResolver(type).hasExceptionMappings();
+        }
+    };
+
+    @Override
+    public ModelAndView resolveException(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (handler instanceof HandlerMethod && LOCAL_HANDLERS.get(((HandlerMethod) handler).getBeanType())) {
+            // 控制器内的 @ExceptionHandler 优先，交给 ExceptionHandlerExceptionResolver
+            return null;
+        }
+        if (ex instanceof BaseException) {
+            return baseException(response, (BaseException) ex);
+        }
+
+        FastError fastError = RESOLVED.get(ex.getClass());
+        if (fastError == FALLBACK) {
+            return null;
+        }
+
+        ExceptionLogger.error(log, fastError.handler, ex, "{} {}", fastError.label, ex.getMessage());
+        ErrorMetrics.recordCode(fastError.httpStatusEnum.getCode());
+        return write(response, fastError.getBytes());
+    }
+
+    /**
+     * 不带参数的业务异常，与GlobalBaseExceptionHandler.baseException一致
+     */
+    private ModelAndView baseException(HttpServletResponse response, BaseException e) {
+        if (e.getCode() == null || ArrayUtil.isNotEmpty(e.getParams()) || !ErrorMessageCatalog.isEmpty()) {
+            return null;
+        }
+
+        ExceptionLogger.error(log, "baseException", e, "【全局异常-业务异常】 {}", e.getMessage());
+        ErrorMetrics.recordCode(e.getCode());
+        return write(response, ErrorBodyUtil.getBytes(e.getMessage(), e.getCode()));
+    }
+
+    private ModelAndView write(HttpServletResponse response, byte[] body) {
+        return ErrorBodyUtil.write(response, body) ? new ModelAndView() : null;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    /**
+     * 固定内容的错误响应
+     */
+    private static class FastError {
+
+        /**
+         * 对应的全局异常处理器方法名，日志抑制规则按此区分
+         */
+        private final String handler;
+
+        /**
+         * 日志标签
+         */
+        private final String label;
+
+        /**
+         * 自定义提示信息，为空时使用枚举的提示信息
+         */
+        private final String message;
+
+        private final CommonHttpStatusEnum httpStatusEnum;
+
+        FastError(String handler, String label, CommonHttpStatusEnum httpStatusEnum) {
+            this(handler, label, null, httpStatusEnum);
+        }
+
+        FastError(String handler, String label, String message, CommonHttpStatusEnum httpStatusEnum) {
+            this.handler = handler;
+            this.label = label;
+            this.message = message;
+            this.httpStatusEnum = httpStatusEnum;
+        }
+
+        byte[] getBytes() {
+            if (message == null) {
+                return ErrorBodyUtil.getBytes(httpStatusEnum);
+            }
+            return ErrorBodyUtil.getBytes(message, httpStatusEnum.getCode());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package project.core.filter;
+
+import cn.hutool.core.util.StrUtil;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+import project.core.config.CompressionProperties;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * 响应压缩过滤器
+ * <p>
+ * 按 Accept-Encoding 协商gzip或deflate，响应体先缓冲到阈值大小，超过阈值且类型允许时才开始压缩；
+ * Deflater 和输出缓冲区从 {@link DeflaterPool} 借用。带 Range 的请求不压缩
+ *
+ * @author tanwei
+ * @date 2026-10-19 09:20
+ **/
+public class CompressionFilter extends OncePerRequestFilter {
+
+    static final String GZIP = "gzip";
+
+    static final String DEFLATE = "deflate";
+
+    private final CompressionProperties properties;
+
+    private final DeflaterPool gzipPool;
+
+    private final DeflaterPool deflatePool;
+
+    private final String[] excludedMimeTypes;
+
+    public CompressionFilter(CompressionProperties properties) {
+        this.properties = properties;
+        int poolSize = properties.getPoolSize() > 0 ? properties.getPoolSize() : Runtime.getRuntime().availableProcessors() * 2;
+        this.gzipPool = new DeflaterPool(properties.getLevel(), true, poolSize);
+        this.deflatePool = new DeflaterPool(properties.getLevel(), false, poolSize);
+        this.excludedMimeTypes = properties.getExcludedMimeTypes().stream()
+                .map(type -> type.toLowerCase(Locale.ROOT))
+                .toArray(String[]::new);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        CompressionResponseWrapper wrapper;
+        if (response instanceof CompressionResponseWrapper) {
+            // 异步请求再次分派时沿用同一个包装
+            wrapper = (CompressionResponseWrapper) response;
+        } else {
+            String encoding = request.getHeader(HttpHeaders.RANGE) == null
+                    ? negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING))
+                    : null;
+            if (encoding == null) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            wrapper = new CompressionResponseWrapper(response, encoding, GZIP.equals(encoding) ? gzipPool : deflatePool,
+                    properties.getMinSize(), this);
+        }
+
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            if (!request.isAsyncStarted()) {
+                wrapper.finish();
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    public void destroy() {
+        gzipPool.close();
+        deflatePool.close();
+    }
+
+    /**
+     * 响应类型是否允许压缩
+     */
+    boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String type = contentType.toLowerCase(Locale.ROOT);
+        for (String excluded : excludedMimeTypes) {
+            if (type.startsWith(excluded)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 协商编码，优先gzip
+     *
+     * @return null 不压缩
+     */
+    static String negotiate(String acceptEncoding) {
+        if (StrUtil.isEmpty(acceptEncoding)) {
+            return null;
+        }
+        boolean deflate = false;
+        for (String part : acceptEncoding.split(",")) {
+            int semicolon = part.indexOf(';');
+            String coding = (semicolon < 0 ? part : part.substring(0, semicolon)).trim();
+            if (semicolon >= 0 && isZeroQuality(part.substring(semicolon + 1))) {
+                continue;
+            }
+            if (GZIP.equalsIgnoreCase(coding) || "*".equals(coding)) {
+                return GZIP;
+            }
+            if (DEFLATE.equalsIgnoreCase(coding)) {
+                deflate = true;
+            }
+        }
+        return deflate ? DEFLATE : null;
+    }
+
+    private static boolean isZeroQuality(String parameters) {
+        String value = StrUtil.trim(parameters);
+        if (!StrUtil.startWithIgnoreCase(value, "q=")) {
+            return false;
+        }
+        try {
+            return Double.parseDouble(value.substring(2).trim()) <= 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
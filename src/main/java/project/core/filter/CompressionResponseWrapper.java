@@ -0,0 +1,358 @@
+package project.core.filter;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * 压缩响应包装
+ * <p>
+ * 先缓冲阈值大小的响应体：结束或刷新时仍未超过阈值则原样输出并保留 Content-Length，
+ * 超过阈值且响应类型、状态码允许时设置 Content-Encoding 并压缩输出
+ *
+ * @author tanwei
+ * @date 2026-10-19 09:40
+ **/
+class CompressionResponseWrapper extends HttpServletResponseWrapper {
+
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0};
+
+    private final String encoding;
+
+    private final DeflaterPool pool;
+
+    private final int minSize;
+
+    private final CompressionFilter filter;
+
+    private CompressionOutputStream outputStream;
+
+    private PrintWriter writer;
+
+    /**
+     * 应用设置的 Content-Length，确定不压缩时再写入，-1为未设置
+     */
+    private long contentLength = -1;
+
+    CompressionResponseWrapper(HttpServletResponse response, String encoding, DeflaterPool pool, int minSize,
+                               CompressionFilter filter) {
+        super(response);
+        this.encoding = encoding;
+        this.pool = pool;
+        this.minSize = minSize;
+        this.filter = filter;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called");
+        }
+        return stream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            if (outputStream != null) {
+                throw new IllegalStateException("getOutputStream() has already been called");
+            }
+            writer = new PrintWriter(new OutputStreamWriter(stream(), getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        setContentLengthLong(len);
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+        if (outputStream != null && outputStream.state != State.BUFFERING) {
+            if (outputStream.state == State.PASSTHROUGH) {
+                super.setContentLengthLong(len);
+            }
+            return;
+        }
+        contentLength = len;
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setContentLengthLong(value == null ? -1 : Long.parseLong(value.trim()));
+        } else {
+            super.setHeader(name, value);
+        }
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setHeader(name, value);
+        } else {
+            super.addHeader(name, value);
+        }
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (outputStream != null) {
+            outputStream.flush();
+        }
+        super.flushBuffer();
+    }
+
+    @Override
+    public void resetBuffer() {
+        super.resetBuffer();
+        if (outputStream != null && outputStream.state == State.BUFFERING) {
+            outputStream.count = 0;
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        contentLength = -1;
+        if (outputStream != null && outputStream.state == State.BUFFERING) {
+            outputStream.count = 0;
+        }
+    }
+
+    /**
+     * 请求结束时调用，输出剩余数据并归还 Deflater
+     */
+    void finish() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (outputStream != null) {
+            outputStream.finish();
+        } else if (contentLength >= 0) {
+            super.setContentLengthLong(contentLength);
+        }
+    }
+
+    private CompressionOutputStream stream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new CompressionOutputStream(getResponse().getOutputStream());
+        }
+        return outputStream;
+    }
+
+    private boolean shouldCompress() {
+        int status = getStatus();
+        return !isCommitted()
+                && status != HttpStatus.NO_CONTENT.value()
+                && status != HttpStatus.PARTIAL_CONTENT.value()
+                && status != HttpStatus.NOT_MODIFIED.value()
+                && !containsHeader(HttpHeaders.CONTENT_ENCODING)
+                && !containsHeader(HttpHeaders.CONTENT_RANGE)
+                && (contentLength < 0 || contentLength > minSize)
+                && filter.isCompressible(getContentType());
+    }
+
+    private enum State {
+        BUFFERING, PASSTHROUGH, COMPRESSING, FINISHED
+    }
+
+    /**
+     * 压缩输出流
+     */
+    private class CompressionOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream target;
+
+        private final byte[] buffer = new byte[minSize];
+
+        private int count;
+
+        private State state = State.BUFFERING;
+
+        private DeflaterPool.Entry entry;
+
+        private CRC32 crc;
+
+        CompressionOutputStream(ServletOutputStream target) {
+            this.target = target;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            switch (state) {
+                case BUFFERING:
+                    if (count + len <= buffer.length) {
+                        System.arraycopy(b, off, buffer, count, len);
+                        count += len;
+                        return;
+                    }
+                    decide(true, false);
+                    write(b, off, len);
+                    return;
+                case PASSTHROUGH:
+                    target.write(b, off, len);
+                    return;
+                case COMPRESSING:
+                    compress(b, off, len);
+                    return;
+                default:
+                    throw new IOException("Response already finished");
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (state == State.BUFFERING) {
+                // 刷新时必须确定是否压缩，缓冲区已满才压缩
+                decide(count >= buffer.length, false);
+            }
+            if (state == State.COMPRESSING) {
+                Deflater deflater = entry.getDeflater();
+                byte[] out = entry.getBuffer();
+                int length;
+                while ((length = deflater.deflate(out, 0, out.length, Deflater.SYNC_FLUSH)) > 0) {
+                    target.write(out, 0, length);
+                }
+            }
+            if (state != State.FINISHED) {
+                target.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+            target.close();
+        }
+
+        void finish() throws IOException {
+            if (state == State.FINISHED) {
+                return;
+            }
+            if (state == State.BUFFERING) {
+                decide(false, true);
+            }
+            if (state == State.COMPRESSING) {
+                try {
+                    Deflater deflater = entry.getDeflater();
+                    deflater.finish();
+                    drain(deflater);
+                    if (crc != null) {
+                        writeTrailer(deflater);
+                    }
+                } finally {
+                    pool.release(entry);
+                    entry = null;
+                }
+            }
+            state = State.FINISHED;
+        }
+
+        /**
+         * @param large    是否超过阈值
+         * @param complete 是否已经是全部内容
+         */
+        private void decide(boolean large, boolean complete) throws IOException {
+            if (large && shouldCompress()) {
+                state = State.COMPRESSING;
+                setHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+                addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                weakenETag();
+                entry = pool.borrow();
+                if (CompressionFilter.GZIP.equals(encoding)) {
+                    crc = new CRC32();
+                    target.write(GZIP_HEADER);
+                }
+                compress(buffer, 0, count);
+            } else {
+                state = State.PASSTHROUGH;
+                if (contentLength >= 0) {
+                    CompressionResponseWrapper.super.setContentLengthLong(contentLength);
+                } else if (complete) {
+                    CompressionResponseWrapper.super.setContentLengthLong(count);
+                }
+                target.write(buffer, 0, count);
+            }
+            count = 0;
+        }
+
+        /**
+         * 压缩后的字节与未压缩的不同，不能共用强校验的ETag，否则缓存和Range续传会混用两种编码；
+         * ETagSupport按弱比较匹配，条件请求不受影响
+         */
+        private void weakenETag() {
+            String etag = getHeader(HttpHeaders.ETAG);
+            if (etag != null && !etag.startsWith("W/")) {
+                setHeader(HttpHeaders.ETAG, "W/" + etag);
+            }
+        }
+
+        private void compress(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return;
+            }
+            if (crc != null) {
+                crc.update(b, off, len);
+            }
+            Deflater deflater = entry.getDeflater();
+            deflater.setInput(b, off, len);
+            byte[] out = entry.getBuffer();
+            while (!deflater.needsInput()) {
+                int length = deflater.deflate(out, 0, out.length, Deflater.NO_FLUSH);
+                if (length > 0) {
+                    target.write(out, 0, length);
+                }
+            }
+        }
+
+        private void drain(Deflater deflater) throws IOException {
+            byte[] out = entry.getBuffer();
+            while (!deflater.finished()) {
+                int length = deflater.deflate(out, 0, out.length, Deflater.NO_FLUSH);
+                if (length > 0) {
+                    target.write(out, 0, length);
+                }
+            }
+        }
+
+        private void writeTrailer(Deflater deflater) throws IOException {
+            long value = crc.getValue();
+            long size = deflater.getBytesRead();
+            byte[] trailer = new byte[8];
+            for (int i = 0; i < 4; i++) {
+                trailer[i] = (byte) (value >>> (i * 8));
+                trailer[i + 4] = (byte) (size >>> (i * 8));
+            }
+            target.write(trailer);
+        }
+
+        @Override
+        public boolean isReady() {
+            return target.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            target.setWriteListener(writeListener);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package project.core.filter;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import project.core.constants.CommonHttpStatusEnum;
+import project.core.metrics.ErrorMetrics;
+import project.core.sse.SseRegistry;
+import project.core.utils.ErrorBodyUtil;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 自适应并发限制过滤器
+ * <p>
+ * 超出当前并发上限的请求立即返回 {@link CommonHttpStatusEnum#SERVICE_UNAVAILABLE}，不排队等待
+ *
+ * @author tanwei
+ * @date 2026-10-18 18:30
+ **/
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final ConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!limiter.tryAcquire()) {
+            ErrorMetrics.recordCode(CommonHttpStatusEnum.SERVICE_UNAVAILABLE.getCode());
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            ErrorBodyUtil.write(response, ErrorBodyUtil.getBytes(CommonHttpStatusEnum.SERVICE_UNAVAILABLE));
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted() && request.getAttribute(SseRegistry.ATTRIBUTE) == null) {
+                // 异步请求在完成时释放；推送（SSE）长连接建立后立即释放，不长期占用并发
+                request.getAsyncContext().addListener(new ReleaseListener(start));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                limiter.release(System.nanoTime() - start);
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return true;
+    }
+
+    /**
+     * 异步请求结束时释放
+     */
+    private class ReleaseListener implements AsyncListener {
+
+        private final long start;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleaseListener(long start) {
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 再次进入异步时保持占用
+        }
+
+        private void release() {
+            // 不使用synchronized，避免在虚拟线程上固定载体线程
+            if (released.compareAndSet(false, true)) {
+                limiter.release(System.nanoTime() - start);
+            }
+        }
+    }
+}
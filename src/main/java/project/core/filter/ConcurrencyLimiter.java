@@ -0,0 +1,180 @@
+package project.core.filter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 自适应并发限制
+ * <p>
+ * 梯度算法：按窗口统计平均耗时（短期RTT），与指数平滑的长期RTT（基线）比较，
+ * 耗时上升时按比例收缩并发上限，耗时平稳时按 sqrt(limit) 增长。
+ * 请求路径上只有一次CAS和两次LongAdder累加，窗口结算由恰好跨过窗口边界的那个请求完成
+ *
+ * @author tanwei
+ * @date 2026-10-18 18:10
+ **/
+public class ConcurrencyLimiter {
+
+    /**
+     * 长期RTT的平滑系数
+     */
+    private static final double LONG_RTT_ALPHA = 0.05;
+
+    /**
+     * 并发上限的平滑系数
+     */
+    private static final double SMOOTHING = 0.2;
+
+    /**
+     * 窗口内最少样本数，不足时延长窗口
+     */
+    private static final int MIN_SAMPLES = 10;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final long windowNanos;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private final LongAdder shed = new LongAdder();
+
+    private final LongAdder rttSum = new LongAdder();
+
+    private final LongAdder rttCount = new LongAdder();
+
+    private final AtomicLong windowEnd;
+
+    /**
+     * 窗口内出现过的最大并发，判断是否真的受限于上限
+     */
+    private final AtomicInteger maxInflight = new AtomicInteger();
+
+    private volatile int limit;
+
+    private double smoothedLimit;
+
+    /**
+     * 长期RTT（纳秒），0为尚未初始化
+     */
+    private double longRtt;
+
+    /**
+     * @param initialLimit 初始并发上限
+     * @param minLimit     最小并发上限
+     * @param maxLimit     最大并发上限
+     * @param window       统计窗口
+     * @param unit         单位
+     */
+    public ConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long window, TimeUnit unit) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+        this.smoothedLimit = this.limit;
+        this.windowNanos = unit.toNanos(window);
+        this.windowEnd = new AtomicLong(System.nanoTime() + windowNanos);
+    }
+
+    /**
+     * 尝试进入
+     *
+     * @return 是否允许，允许时必须调用 {@link #release(long)}
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= limit) {
+                shed.increment();
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                if (current + 1 > maxInflight.get()) {
+                    maxInflight.accumulateAndGet(current + 1, Math::max);
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 请求结束
+     *
+     * @param rttNanos 请求耗时（纳秒）
+     */
+    public void release(long rttNanos) {
+        inflight.decrementAndGet();
+        rttSum.add(rttNanos);
+        rttCount.increment();
+
+        long now = System.nanoTime();
+        long end = windowEnd.get();
+        if (now - end >= 0 && rttCount.sum() >= MIN_SAMPLES && windowEnd.compareAndSet(end, now + windowNanos)) {
+            update();
+        }
+    }
+
+    /**
+     * 结算窗口，同一时间只有一个线程执行
+     */
+    private synchronized void update() {
+        long count = rttCount.sumThenReset();
+        long sum = rttSum.sumThenReset();
+        int peak = maxInflight.getAndSet(inflight.get());
+        if (count == 0) {
+            return;
+        }
+
+        double shortRtt = (double) sum / count;
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+        } else {
+            longRtt = longRtt * (1 - LONG_RTT_ALPHA) + shortRtt * LONG_RTT_ALPHA;
+            // 长期RTT明显偏高时快速回落，避免基线被持续的高耗时拖高
+            if (longRtt / shortRtt > 2) {
+                longRtt *= 0.95;
+            }
+        }
+
+        // 并发远低于上限时，耗时变化与上限无关，不增长
+        if (peak < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, longRtt / shortRtt));
+        double queueSize = Math.sqrt(smoothedLimit);
+        double newLimit = smoothedLimit * gradient + queueSize;
+        smoothedLimit = smoothedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        smoothedLimit = Math.max(minLimit, Math.min(maxLimit, smoothedLimit));
+        limit = (int) smoothedLimit;
+    }
+
+    /**
+     * 当前并发上限
+     *
+     * @return 上限
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * 当前并发数
+     *
+     * @return 并发数
+     */
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    /**
+     * 累计拒绝数
+     *
+     * @return 拒绝数
+     */
+    public long getShedCount() {
+        return shed.sum();
+    }
+}
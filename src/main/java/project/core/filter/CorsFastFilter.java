@@ -0,0 +1,135 @@
+package project.core.filter;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 跨域过滤器
+ * <p>
+ * 代替 CorsFilter + UrlBasedCorsConfigurationSource：不做路径匹配，域名查找为哈希表 + 后缀树，
+ * 预检请求按预先拼好的响应头直接返回，不进入DispatcherServlet。
+ * 规则通过 {@link #reload(CorsPolicy)} 整体替换，读取时只有一次volatile读，不加锁
+ *
+ * @author tanwei
+ * @date 2026-10-18 21:05
+ **/
+public class CorsFastFilter extends OncePerRequestFilter {
+
+    private static final String VARY_VALUE = String.join(",", HttpHeaders.ORIGIN,
+            HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS);
+
+    private volatile CorsPolicy policy;
+
+    public CorsFastFilter(CorsPolicy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * 替换跨域规则，正在处理的请求继续使用旧规则
+     *
+     * @param policy 新规则
+     */
+    public void reload(CorsPolicy policy) {
+        this.policy = policy;
+    }
+
+    public CorsPolicy getPolicy() {
+        return policy;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String origin = request.getHeader(HttpHeaders.ORIGIN);
+        if (origin == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        CorsPolicy current = this.policy;
+        boolean allowed = current.isAllowedOrigin(origin);
+        if (!allowed && isSameOrigin(request, origin)) {
+            // 同源请求也可能带Origin，不属于跨域
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.addHeader(HttpHeaders.VARY, VARY_VALUE);
+        String requestMethod = request.getHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD);
+        boolean preflight = requestMethod != null && HttpMethod.OPTIONS.matches(request.getMethod());
+        if (!allowed || preflight && !current.isAllowedMethod(requestMethod)) {
+            reject(response);
+            return;
+        }
+
+        response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, current.allowOrigin(origin));
+        if (preflight) {
+            writePreflight(request, response, current, requestMethod);
+            return;
+        }
+        setHeaders(response, current.getActualHeaders());
+        filterChain.doFilter(request, response);
+    }
+
+    private void writePreflight(HttpServletRequest request, HttpServletResponse response, CorsPolicy current,
+                                String requestMethod) {
+        if (current.isAllowAllMethods()) {
+            response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS, requestMethod);
+        }
+        if (current.isAllowAllHeaders()) {
+            String requestHeaders = request.getHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS);
+            if (requestHeaders != null) {
+                response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_HEADERS, requestHeaders);
+            }
+        }
+        setHeaders(response, current.getPreflightHeaders());
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentLength(0);
+    }
+
+    private static void setHeaders(HttpServletResponse response, String[] headers) {
+        for (int i = 0; i < headers.length; i += 2) {
+            response.setHeader(headers[i], headers[i + 1]);
+        }
+    }
+
+    private static void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.FORBIDDEN.value());
+        response.setContentLength(0);
+        response.flushBuffer();
+    }
+
+    /**
+     * 只有域名不在允许范围内时才会调用
+     */
+    private static boolean isSameOrigin(HttpServletRequest request, String origin) {
+        String scheme = request.getScheme();
+        String host = request.getServerName();
+        int port = request.getServerPort();
+        int schemeEnd = scheme.length();
+        if (!origin.regionMatches(true, 0, scheme, 0, schemeEnd) || !origin.startsWith("://", schemeEnd)) {
+            return false;
+        }
+        int hostStart = schemeEnd + 3;
+        if (!origin.regionMatches(true, hostStart, host, 0, host.length())) {
+            return false;
+        }
+        int hostEnd = hostStart + host.length();
+        if (hostEnd == origin.length()) {
+            return port == defaultPort(scheme);
+        }
+        return origin.charAt(hostEnd) == ':' && origin.substring(hostEnd + 1).equals(String.valueOf(port));
+    }
+
+    private static int defaultPort(String scheme) {
+        return "https".equalsIgnoreCase(scheme) ? 443 : 80;
+    }
+}
@@ -0,0 +1,225 @@
+package project.core.filter;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.util.StrUtil;
+import org.springframework.http.HttpHeaders;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 跨域规则
+ * <p>
+ * 不可变，创建时把精确域名放进哈希表、通配域名（如 https://*.example.com）放进按字符倒序的后缀树，
+ * 响应头的值也在创建时拼好，请求时只做查找和赋值
+ *
+ * @author tanwei
+ * @date 2026-10-18 20:50
+ **/
+public final class CorsPolicy {
+
+    private static final String ALL = "*";
+
+    private static final String WILDCARD = "*.";
+
+    private final boolean allowAllOrigins;
+
+    private final Set<String> origins;
+
+    private final SuffixNode wildcards;
+
+    private final boolean allowAllMethods;
+
+    private final Set<String> methods;
+
+    private final boolean allowAllHeaders;
+
+    /**
+     * 预检响应的固定头，{名称, 值} 交替排列
+     */
+    private final String[] preflightHeaders;
+
+    /**
+     * 实际请求的固定头，{名称, 值} 交替排列
+     */
+    private final String[] actualHeaders;
+
+    /**
+     * @param allowedOrigins   允许的域名，支持 * 和 https://*.example.com
+     * @param allowedMethods   允许的请求方式，* 为全部
+     * @param allowedHeaders   允许的请求头，* 为全部
+     * @param exposedHeaders   暴露给前端的响应头
+     * @param allowCredentials 是否允许携带cookie，允许时域名必须明确列出或使用通配域名，不能为 *
+     * @param maxAge           预检缓存时间（秒）
+     * @throws IllegalArgumentException 允许携带cookie且域名为 * 或为空
+     */
+    public CorsPolicy(List<String> allowedOrigins, List<String> allowedMethods, List<String> allowedHeaders,
+                      List<String> exposedHeaders, boolean allowCredentials, long maxAge) {
+        if (allowCredentials && (CollUtil.isEmpty(allowedOrigins) || allowedOrigins.contains(ALL))) {
+            // 与spring CorsConfiguration一致：任意域名都能带着cookie读取响应
+            throw new IllegalArgumentException("allowCredentials=true 时 allowedOrigins 不能为 * 或为空，请明确列出域名或通配域名");
+        }
+        this.allowAllOrigins = allowedOrigins.contains(ALL);
+        this.origins = new HashSet<>(allowedOrigins.size() * 2);
+        this.wildcards = new SuffixNode();
+        for (String origin : allowedOrigins) {
+            String value = normalize(origin);
+            int wildcard = value.indexOf(WILDCARD);
+            if (ALL.equals(value)) {
+                continue;
+            }
+            if (wildcard < 0) {
+                origins.add(value);
+            } else {
+                // 保留前面的协议和 *. 后面的点，如 https://*.example.com -> 协议 https://，后缀 .example.com
+                wildcards.put(value.substring(wildcard + 1), value.substring(0, wildcard));
+            }
+        }
+
+        this.allowAllMethods = allowedMethods.contains(ALL);
+        this.methods = new HashSet<>(allowedMethods.size() * 2);
+        allowedMethods.forEach(method -> methods.add(method.toUpperCase(Locale.ROOT)));
+        this.allowAllHeaders = allowedHeaders.contains(ALL);
+
+        List<String> preflight = new ArrayList<>(8);
+        if (!allowAllMethods) {
+            preflight.add(HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS);
+            preflight.add(String.join(",", methods));
+        }
+        if (!allowAllHeaders && CollUtil.isNotEmpty(allowedHeaders)) {
+            preflight.add(HttpHeaders.ACCESS_CONTROL_ALLOW_HEADERS);
+            preflight.add(String.join(",", allowedHeaders));
+        }
+        if (maxAge > 0) {
+            preflight.add(HttpHeaders.ACCESS_CONTROL_MAX_AGE);
+            preflight.add(String.valueOf(maxAge));
+        }
+        List<String> actual = new ArrayList<>(4);
+        if (CollUtil.isNotEmpty(exposedHeaders)) {
+            actual.add(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS);
+            actual.add(String.join(",", exposedHeaders));
+        }
+        if (allowCredentials) {
+            preflight.add(HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS);
+            preflight.add(Boolean.TRUE.toString());
+            actual.add(HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS);
+            actual.add(Boolean.TRUE.toString());
+        }
+        this.preflightHeaders = preflight.toArray(new String[0]);
+        this.actualHeaders = actual.toArray(new String[0]);
+    }
+
+    /**
+     * 域名是否允许
+     *
+     * @param origin 请求头 Origin
+     * @return 是否允许
+     */
+    public boolean isAllowedOrigin(String origin) {
+        if (allowAllOrigins) {
+            return true;
+        }
+        String value = normalize(origin);
+        return origins.contains(value) || wildcards.matches(value);
+    }
+
+    /**
+     * 请求方式是否允许
+     *
+     * @param method 请求方式
+     * @return 是否允许
+     */
+    public boolean isAllowedMethod(String method) {
+        return allowAllMethods || method != null && methods.contains(method);
+    }
+
+    /**
+     * 返回给前端的 Access-Control-Allow-Origin，允许携带cookie时不会允许全部域名，总是回显请求的域名
+     *
+     * @param origin 请求头 Origin
+     * @return 响应头的值
+     */
+    public String allowOrigin(String origin) {
+        return allowAllOrigins ? ALL : origin;
+    }
+
+    public boolean isAllowAllMethods() {
+        return allowAllMethods;
+    }
+
+    public boolean isAllowAllHeaders() {
+        return allowAllHeaders;
+    }
+
+    public String[] getPreflightHeaders() {
+        return preflightHeaders;
+    }
+
+    public String[] getActualHeaders() {
+        return actualHeaders;
+    }
+
+    private static String normalize(String origin) {
+        String value = StrUtil.trim(origin);
+        if (StrUtil.endWith(value, StrUtil.C_SLASH)) {
+            value = value.substring(0, value.length() - 1);
+        }
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 后缀树节点，按字符从后往前匹配
+     */
+    private static class SuffixNode {
+
+        private final Map<Character, SuffixNode> children = new HashMap<>(4);
+
+        /**
+         * 后缀在此结束时允许的协议前缀，如 https://
+         */
+        private Set<String> schemes;
+
+        void put(String suffix, String scheme) {
+            SuffixNode node = this;
+            for (int i = suffix.length() - 1; i >= 0; i--) {
+                node = node.children.computeIfAbsent(suffix.charAt(i), key -> new SuffixNode());
+            }
+            if (node.schemes == null) {
+                node.schemes = new HashSet<>(2);
+            }
+            node.schemes.add(scheme);
+        }
+
+        boolean matches(String origin) {
+            SuffixNode node = this;
+            for (int i = origin.length() - 1; i > 0; i--) {
+                node = node.children.get(origin.charAt(i));
+                if (node == null) {
+                    return false;
+                }
+                // 后缀之前至少还有一个字符的子域名，协议完全一致，子域名中不能再出现 /
+                if (node.schemes != null && matchesScheme(origin, i, node.schemes)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean matchesScheme(String origin, int suffixStart, Set<String> schemes) {
+            int separator = origin.indexOf("://");
+            if (separator < 0 || separator + 3 >= suffixStart) {
+                return false;
+            }
+            if (origin.indexOf(StrUtil.C_SLASH, separator + 3) >= 0) {
+                return false;
+            }
+            // 未写协议的通配域名（*.example.com）匹配任意协议
+            return schemes.contains(StrUtil.EMPTY) || schemes.contains(origin.substring(0, separator + 3));
+        }
+    }
+}
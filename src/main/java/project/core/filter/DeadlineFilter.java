@@ -0,0 +1,121 @@
+package project.core.filter;
+
+import cn.hutool.core.util.NumberUtil;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import project.core.config.DeadlineProperties;
+import project.core.constants.CommonHttpStatusEnum;
+import project.core.deadline.Deadline;
+import project.core.deadline.DeadlineWheel;
+import project.core.metrics.ErrorMetrics;
+import project.core.utils.ErrorBodyUtil;
+import project.core.utils.HttpServletUtil;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 请求截止时间过滤器
+ * <p>
+ * 超时时间取 请求头 → 路由默认值 → 全局默认值，并受上限约束。
+ * 请求到期后业务代码调用 Deadline.check() 会抛出超时异常；请求结束时已到期且响应未提交，则改为返回
+ * {@link CommonHttpStatusEnum#REQUEST_TIMED_OUT}（上游已放弃等待，原结果无意义）
+ *
+ * @author tanwei
+ * @date 2026-10-18 17:40
+ **/
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    private final DeadlineProperties properties;
+
+    private final DeadlineWheel wheel;
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    public DeadlineFilter(DeadlineProperties properties, DeadlineWheel wheel) {
+        this.properties = properties;
+        this.wheel = wheel;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long timeout = resolveTimeout(request);
+        if (timeout < 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (timeout == 0) {
+            // 上游的时间已经用完
+            timedOut(response);
+            return;
+        }
+
+        Deadline deadline = properties.isInterrupt()
+                ? Deadline.afterInterruptibly(timeout, TimeUnit.MILLISECONDS)
+                : Deadline.after(timeout, TimeUnit.MILLISECONDS);
+        request.setAttribute(Deadline.ATTRIBUTE, deadline);
+        wheel.schedule(deadline);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            deadline.done();
+            if (properties.isInterrupt()) {
+                // done() 返回后时间轮不会再中断本线程，清除可能残留的中断标记，避免影响线程池中的下一个请求
+                Thread.interrupted();
+            }
+        }
+
+        if (deadline.isExpired() && !request.isAsyncStarted() && !response.isCommitted()) {
+            response.resetBuffer();
+            timedOut(response);
+        }
+    }
+
+    /**
+     * 解析超时时间（毫秒）
+     *
+     * @return 小于0 不限制
+     */
+    private long resolveTimeout(HttpServletRequest request) {
+        long timeout;
+        String header = request.getHeader(properties.getHeaderName());
+        if (header != null && NumberUtil.isLong(header.trim())) {
+            timeout = Math.max(0, Long.parseLong(header.trim()));
+        } else {
+            timeout = routeTimeout(request);
+        }
+
+        long max = properties.getMaxTimeout();
+        if (max > 0 && (timeout < 0 || timeout > max)) {
+            timeout = max;
+        }
+        return timeout;
+    }
+
+    long routeTimeout(HttpServletRequest request) {
+        if (!properties.getRoutes().isEmpty()) {
+            String path = HttpServletUtil.getPath(request);
+            for (Map.Entry<String, Long> route : properties.getRoutes().entrySet()) {
+                if (pathMatcher.match(route.getKey(), path)) {
+                    // 与默认值一致，0 表示不限制，不能当作已到期
+                    return route.getValue() != null && route.getValue() > 0 ? route.getValue() : -1;
+                }
+            }
+        }
+        return properties.getDefaultTimeout() > 0 ? properties.getDefaultTimeout() : -1;
+    }
+
+    private void timedOut(HttpServletResponse response) {
+        ErrorMetrics.recordCode(CommonHttpStatusEnum.REQUEST_TIMED_OUT.getCode());
+        response.setStatus(HttpStatus.REQUEST_TIMEOUT.value());
+        ErrorBodyUtil.write(response, ErrorBodyUtil.getBytes(CommonHttpStatusEnum.REQUEST_TIMED_OUT));
+    }
+}
@@ -0,0 +1,90 @@
+package project.core.filter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+
+/**
+ * Deflater 池
+ * <p>
+ * Deflater 持有本地内存，创建和回收都比较重，按压缩级别和格式复用，连同输出缓冲区一起借出归还
+ *
+ * @author tanwei
+ * @date 2026-10-19 09:10
+ **/
+public class DeflaterPool {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final int level;
+
+    private final boolean nowrap;
+
+    private final BlockingQueue<Entry> pool;
+
+    /**
+     * @param level   压缩级别 1-9
+     * @param nowrap  true为原始deflate数据（gzip使用），false为zlib格式（deflate使用）
+     * @param maxSize 池中最多保留的数量
+     */
+    public DeflaterPool(int level, boolean nowrap, int maxSize) {
+        this.level = level;
+        this.nowrap = nowrap;
+        this.pool = new ArrayBlockingQueue<>(Math.max(1, maxSize));
+    }
+
+    /**
+     * 借出，用完必须 {@link #release(Entry)}
+     *
+     * @return Deflater 和缓冲区
+     */
+    public Entry borrow() {
+        Entry entry = pool.poll();
+        return entry != null ? entry : new Entry(new Deflater(level, nowrap), new byte[BUFFER_SIZE]);
+    }
+
+    /**
+     * 归还，池已满时直接释放本地内存
+     *
+     * @param entry 借出的对象
+     */
+    public void release(Entry entry) {
+        entry.deflater.reset();
+        if (!pool.offer(entry)) {
+            entry.deflater.end();
+        }
+    }
+
+    /**
+     * 释放池中所有 Deflater
+     */
+    public void close() {
+        Entry entry;
+        while ((entry = pool.poll()) != null) {
+            entry.deflater.end();
+        }
+    }
+
+    /**
+     * 借出的 Deflater 和缓冲区
+     */
+    public static class Entry {
+
+        private final Deflater deflater;
+
+        private final byte[] buffer;
+
+        Entry(Deflater deflater, byte[] buffer) {
+            this.deflater = deflater;
+            this.buffer = buffer;
+        }
+
+        public Deflater getDeflater() {
+            return deflater;
+        }
+
+        public byte[] getBuffer() {
+            return buffer;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package project.core.filter;
+
+import cn.hutool.core.util.StrUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import project.core.config.RateLimitProperties;
+import project.core.constants.CommonHttpStatusEnum;
+import project.core.metrics.ErrorMetrics;
+import project.core.utils.ErrorBodyUtil;
+import project.core.utils.HttpServletUtil;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 限流过滤器
+ * <p>
+ * 按ip、请求头或路由限流，超出时在进入DispatcherServlet之前直接返回 {@link CommonHttpStatusEnum#TOO_MANY_REQUESTS}
+ *
+ * @author tanwei
+ * @date 2026-10-18 16:40
+ **/
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
+    private static final String ALL = "/**";
+
+    private final RateLimiter rateLimiter;
+
+    private final RateLimitProperties properties;
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    /**
+     * 是否所有路径都限流，是则跳过路径匹配
+     */
+    private final boolean matchAll;
+
+    public RateLimitFilter(RateLimitProperties properties) {
+        this.properties = properties;
+        this.rateLimiter = new RateLimiter(properties.getRate(), properties.getBurst(), properties.getMaxKeys());
+        List<String> patterns = properties.getPatterns();
+        this.matchAll = properties.getKey() != RateLimitProperties.KeyType.ROUTE
+                && (patterns.isEmpty() || patterns.contains(ALL));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = resolveKey(request);
+        if (key != null) {
+            long wait = rateLimiter.tryAcquire(key);
+            if (wait > 0) {
+                reject(response, wait);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * 解析限流key
+     *
+     * @return null 不限流
+     */
+    private String resolveKey(HttpServletRequest request) {
+        String pattern = matchAll ? ALL : match(request);
+        if (pattern == null) {
+            return null;
+        }
+
+        switch (properties.getKey()) {
+            case ROUTE:
+                return pattern;
+            case HEADER:
+                String value = request.getHeader(properties.getHeaderName());
+                return StrUtil.isEmpty(value) ? clientIp(request) : value;
+            case IP:
+            default:
+                return clientIp(request);
+        }
+    }
+
+    private String match(HttpServletRequest request) {
+        String path = HttpServletUtil.getPath(request);
+        for (String pattern : properties.getPatterns()) {
+            if (pathMatcher.match(pattern, path)) {
+                return pattern;
+            }
+        }
+        return null;
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        if (properties.isTrustForwarded()) {
+            String forwarded = request.getHeader(X_FORWARDED_FOR);
+            if (StrUtil.isNotEmpty(forwarded)) {
+                return forwardedClient(forwarded, Math.max(1, properties.getTrustedProxies()));
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    /**
+     * 每层可信代理在末尾追加它看到的来源地址，从右往左第N个是最外层可信代理看到的客户端；
+     * 不足N个时全部由可信代理追加，取最左边的
+     */
+    private static String forwardedClient(String forwarded, int trustedProxies) {
+        int end = forwarded.length();
+        for (int i = 1; i < trustedProxies; i++) {
+            int comma = forwarded.lastIndexOf(StrUtil.C_COMMA, end - 1);
+            if (comma < 0) {
+                return forwarded.substring(0, end).trim();
+            }
+            end = comma;
+        }
+        int start = forwarded.lastIndexOf(StrUtil.C_COMMA, end - 1) + 1;
+        return forwarded.substring(start, end).trim();
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) {
+        ErrorMetrics.recordCode(CommonHttpStatusEnum.TOO_MANY_REQUESTS.getCode());
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos))));
+        ErrorBodyUtil.write(response, ErrorBodyUtil.getBytes(CommonHttpStatusEnum.TOO_MANY_REQUESTS));
+    }
+}
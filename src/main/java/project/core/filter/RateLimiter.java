@@ -0,0 +1,167 @@
+package project.core.filter;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GCRA 限流器
+ * <p>
+ * 每个key只保存一个理论到达时间（TAT），判断时一次CAS，无锁。
+ * key分散到多个分段中，每个分段有数量上限：达到上限时一次清理到上限的四分之三，先清理TAT已过期的key
+ * （与新key等价，清理不影响限流结果），不够再淘汰任意key；内存占用与key的数量无关，清理的开销分摊到多个新key
+ *
+ * @author tanwei
+ * @date 2026-10-18 16:10
+ **/
+public class RateLimiter {
+
+    private static final int STRIPES = 64;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    /**
+     * 每个请求的间隔（纳秒）
+     */
+    private final long interval;
+
+    /**
+     * 允许突发的时间容差（纳秒）
+     */
+    private final long tolerance;
+
+    private final int maxKeysPerStripe;
+
+    /**
+     * @param permitsPerSecond 每秒允许的请求数
+     * @param burst            允许的突发请求数
+     * @param maxKeys          最多保存的key数量
+     * @throws IllegalArgumentException permitsPerSecond 不大于0或burst小于1
+     */
+    public RateLimiter(double permitsPerSecond, int burst, int maxKeys) {
+        if (!(permitsPerSecond > 0)) {
+            throw new IllegalArgumentException("project.core.rate-limit.rate 必须大于0: " + permitsPerSecond);
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("project.core.rate-limit.burst 不能小于1: " + burst);
+        }
+        this.interval = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        // 速率极低时 interval 很大，容差封顶避免溢出
+        long tolerance = interval * (burst - 1);
+        this.tolerance = burst > 1 && tolerance / (burst - 1) != interval ? Long.MAX_VALUE / 2 : tolerance;
+        this.maxKeysPerStripe = Math.max(16, maxKeys / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(maxKeysPerStripe);
+        }
+    }
+
+    /**
+     * 尝试获取一个许可
+     *
+     * @param key 限流key
+     * @return 0 允许；大于0 被拒绝，为需要等待的纳秒数
+     */
+    public long tryAcquire(String key) {
+        Stripe stripe = stripes[spread(key.hashCode()) & (STRIPES - 1)];
+        long now = System.nanoTime();
+        AtomicLong tat = stripe.cells.get(key);
+        if (tat == null) {
+            tat = stripe.create(key, now, interval);
+            if (tat == null) {
+                // 新key，直接占用第一个许可
+                return 0;
+            }
+        }
+
+        while (true) {
+            long current = tat.get();
+            long start = Math.max(current, now);
+            long wait = start - now - tolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (tat.compareAndSet(current, start + interval)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 当前保存的key数量
+     *
+     * @return 数量
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.cells.size();
+        }
+        return size;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * 分段
+     */
+    private static class Stripe {
+
+        private final Map<String, AtomicLong> cells = new ConcurrentHashMap<>();
+
+        private final AtomicBoolean cleaning = new AtomicBoolean();
+
+        private final int maxKeys;
+
+        /**
+         * 清理后的数量上限
+         */
+        private final int lowWater;
+
+        Stripe(int maxKeys) {
+            this.maxKeys = maxKeys;
+            this.lowWater = maxKeys - maxKeys / 4;
+        }
+
+        /**
+         * 创建key
+         *
+         * @return null 新建成功并已占用第一个许可；否则为并发创建的已有值
+         */
+        AtomicLong create(String key, long now, long interval) {
+            if (cells.size() >= maxKeys) {
+                evict(now);
+            }
+            return cells.putIfAbsent(key, new AtomicLong(now + interval));
+        }
+
+        /**
+         * 同一时间只有一个线程清理，其余线程不等待
+         */
+        private void evict(long now) {
+            if (!cleaning.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                // 两种清理都降到低水位，避免之后每个新key都触发一次完整扫描
+                Iterator<AtomicLong> iterator = cells.values().iterator();
+                while (cells.size() > lowWater && iterator.hasNext()) {
+                    if (iterator.next().get() - now <= 0) {
+                        iterator.remove();
+                    }
+                }
+                iterator = cells.values().iterator();
+                while (cells.size() > lowWater && iterator.hasNext()) {
+                    iterator.next();
+                    iterator.remove();
+                }
+            } finally {
+                cleaning.set(false);
+            }
+        }
+    }
+}
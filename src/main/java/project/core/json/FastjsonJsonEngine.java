@@ -0,0 +1,42 @@
+package project.core.json;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.serializer.SerializerFeature;
+import project.core.utils.ResultUtil;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * fastjson引擎，需要自行引入fastjson，project.core.json.engine=fastjson 时使用
+ *
+ * @author tanwei
+ * @date 2026-10-19 10:40
+ **/
+public class FastjsonJsonEngine implements JsonEngine {
+
+    /**
+     * 引擎名称
+     */
+    public static final String NAME = "fastjson";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void write(ResultUtil<?> result, OutputStream outputStream) throws IOException {
+        JSON.writeJSONString(outputStream, result, SerializerFeature.WriteMapNullValue);
+    }
+
+    @Override
+    public void writeValue(Object value, OutputStream outputStream) throws IOException {
+        JSON.writeJSONString(outputStream, value, SerializerFeature.WriteMapNullValue);
+    }
+
+    @Override
+    public String toJson(Object value) {
+        return JSON.toJSONString(value, SerializerFeature.WriteMapNullValue);
+    }
+}
@@ -0,0 +1,99 @@
+package project.core.json;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import project.core.utils.ResultUtil;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * jackson引擎
+ * <p>
+ * 外层 code、message、data 由预编码的字段名直接写出，不经过反射和BeanSerializer；
+ * data 通过spring mvc同一个ObjectMapper增量序列化，不经过中间String
+ *
+ * @author tanwei
+ * @date 2026-10-19 10:35
+ **/
+public class JacksonJsonEngine implements JsonEngine {
+
+    /**
+     * 引擎名称
+     */
+    public static final String NAME = "jackson";
+
+    private static final SerializedString CODE = new SerializedString("code");
+
+    private static final SerializedString MESSAGE = new SerializedString("message");
+
+    private static final SerializedString DATA = new SerializedString("data");
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * null字段是否写出，与ObjectMapper的全局配置保持一致
+     */
+    private final boolean writeNulls;
+
+    public JacksonJsonEngine(ObjectMapper objectMapper) {
+        JsonInclude.Include inclusion = objectMapper.getSerializationConfig().getDefaultPropertyInclusion().getValueInclusion();
+        this.writeNulls = inclusion == null || inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void write(ResultUtil<?> result, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            if (writeNulls || result.getCode() != null) {
+                generator.writeFieldName(CODE);
+                if (result.getCode() == null) {
+                    generator.writeNull();
+                } else {
+                    generator.writeNumber(result.getCode());
+                }
+            }
+            if (writeNulls || result.getMessage() != null) {
+                generator.writeFieldName(MESSAGE);
+                generator.writeString(result.getMessage());
+            }
+            if (writeNulls || result.getData() != null) {
+                generator.writeFieldName(DATA);
+                objectMapper.writeValue(generator, result.getData());
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    @Override
+    public void writeValue(Object value, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            objectMapper.writeValue(generator, value);
+        }
+    }
+
+    @Override
+    public String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+}
@@ -0,0 +1,54 @@
+package project.core.json;
+
+import project.core.utils.ResultUtil;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JSON引擎
+ * <p>
+ * 返回结果的所有序列化（spring mvc返回值、预编码错误响应体、合并请求、ETag、ResultUtil.toString）都经过同一个引擎，
+ * 通过 project.core.json.engine 选择内置实现，或注册自己的 JsonEngine bean 替换
+ *
+ * @author tanwei
+ * @date 2026-10-19 10:30
+ **/
+public interface JsonEngine {
+
+    /**
+     * 引擎名称
+     *
+     * @return 名称
+     */
+    String name();
+
+    /**
+     * 以UTF-8写到输出流，不关闭输出流
+     *
+     * @param result       返回结果
+     * @param outputStream 输出流
+     * @throws IOException 写出异常
+     */
+    void write(ResultUtil<?> result, OutputStream outputStream) throws IOException;
+
+    /**
+     * 任意对象以UTF-8写到输出流，不关闭输出流，用于流式返回的元素
+     *
+     * @param value        对象
+     * @param outputStream 输出流
+     * @throws IOException 写出异常
+     */
+    default void writeValue(Object value, OutputStream outputStream) throws IOException {
+        outputStream.write(toJson(value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 序列化为字符串
+     *
+     * @param value 对象
+     * @return JSON
+     */
+    String toJson(Object value);
+}
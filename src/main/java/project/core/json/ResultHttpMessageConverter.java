@@ -0,0 +1,44 @@
+package project.core.json;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import project.core.utils.ResultUtil;
+import project.core.utils.ResultWriter;
+
+import java.io.IOException;
+
+/**
+ * 控制器返回 {@link ResultUtil} 时使用当前 {@link JsonEngine} 写出，排在jackson转换器之前，只写不读
+ *
+ * @author tanwei
+ * @date 2026-10-19 10:45
+ **/
+public class ResultHttpMessageConverter extends AbstractHttpMessageConverter<ResultUtil<?>> {
+
+    public ResultHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ResultUtil.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ResultUtil<?> readInternal(Class<? extends ResultUtil<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("ResultUtil is write only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(ResultUtil<?> result, HttpOutputMessage outputMessage) throws IOException {
+        ResultWriter.write(result, outputMessage.getBody());
+    }
+}
@@ -0,0 +1,141 @@
+package project.core.json;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import project.core.constants.CommonHttpStatusEnum;
+import project.core.deadline.Deadline;
+import project.core.exception.BaseException;
+import project.core.exception.ExceptionLogger;
+import project.core.metrics.ErrorMetrics;
+import project.core.utils.HttpServletUtil;
+import project.core.utils.ResultStream;
+import project.core.utils.ResultUtil;
+import project.core.utils.ResultWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+/**
+ * 控制器返回 {@link ResultStream} 时逐个元素写出，不设置Content-Length，由容器分块传输
+ * <p>
+ * application/json（默认）：{"code":200,"message":"操作成功","data":[元素,...]}，
+ * 中途异常时以 ],"error":{"code":500,"message":"..."}} 结尾；
+ * application/x-ndjson：每行一个元素，最后一行为结果 {"code":200,"message":"操作成功","data":元素数}，
+ * 中途异常时最后一行为错误结果。
+ * 每个元素先序列化到缓冲区再写出，序列化失败不会留下半个元素；写出响应本身失败（客户端断开）时直接抛出。
+ * 请求有截止时间时每个元素前检查，到期按 {@link CommonHttpStatusEnum#REQUEST_TIMED_OUT} 结尾
+ *
+ * @author tanwei
+ * @date 2026-10-19 13:20
+ **/
+@Slf4j
+public class ResultStreamHttpMessageConverter extends AbstractHttpMessageConverter<ResultStream<?>> {
+
+    public static final MediaType APPLICATION_NDJSON = new MediaType("application", "x-ndjson");
+
+    private static final byte[] ARRAY_END = "]}".getBytes(StandardCharsets.UTF_8);
+
+    private static final int NEW_LINE = '\n';
+
+    private static final int COMMA = ',';
+
+    public ResultStreamHttpMessageConverter() {
+        super(StandardCharsets.UTF_8, MediaType.APPLICATION_JSON, APPLICATION_NDJSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ResultStream.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ResultStream<?> readInternal(Class<? extends ResultStream<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("ResultStream is write only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(ResultStream<?> result, HttpOutputMessage outputMessage) throws IOException {
+        MediaType contentType = outputMessage.getHeaders().getContentType();
+        boolean ndjson = contentType != null && APPLICATION_NDJSON.isCompatibleWith(contentType);
+        JsonEngine engine = ResultWriter.getEngine();
+        Deadline deadline = HttpServletUtil.getDeadline();
+        OutputStream body = outputMessage.getBody();
+
+        try (ResultStream<?> stream = result) {
+            if (!ndjson) {
+                String header = "{\"code\":" + ResultUtil.StatusEnum.SUCCESS.getCode()
+                        + ",\"message\":" + engine.toJson(stream.getMessage()) + ",\"data\":[";
+                body.write(header.getBytes(StandardCharsets.UTF_8));
+            }
+
+            Iterator<?> iterator = stream.iterator();
+            ByteArrayOutputStream element = new ByteArrayOutputStream(256);
+            long count = 0;
+            ResultUtil<?> error = null;
+            while (true) {
+                try {
+                    if (!iterator.hasNext()) {
+                        break;
+                    }
+                    if (deadline != null) {
+                        deadline.check();
+                    }
+                    element.reset();
+                    engine.writeValue(iterator.next(), element);
+                } catch (Exception e) {
+                    error = toError(e, count);
+                    break;
+                }
+                if (!ndjson && count > 0) {
+                    body.write(COMMA);
+                }
+                element.writeTo(body);
+                if (ndjson) {
+                    body.write(NEW_LINE);
+                }
+                count++;
+            }
+
+            if (ndjson) {
+                ResultWriter.write(error == null ? ResultUtil.success(count, stream.getMessage()) : error, body);
+                body.write(NEW_LINE);
+            } else if (error == null) {
+                body.write(ARRAY_END);
+            } else {
+                String trailer = "],\"error\":{\"code\":" + error.getCode()
+                        + ",\"message\":" + engine.toJson(error.getMessage()) + "}}";
+                body.write(trailer.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    /**
+     * 与全局异常处理器相同的错误结果，响应头已写出，只能体现在响应体的结尾
+     */
+    private static ResultUtil<?> toError(Exception e, long count) {
+        ExceptionLogger.error(log, "resultStream", e, "【流式返回异常】 已写出{}条 {}", count, e.getMessage(), e);
+        ResultUtil<?> error;
+        if (e instanceof BaseException) {
+            BaseException exception = (BaseException) e;
+            String message = exception.getMessage(LocaleContextHolder.getLocale());
+            error = exception.getCode() == null ? ResultUtil.error(message) : ResultUtil.error(message, exception.getCode());
+        } else {
+            error = ResultUtil.error(CommonHttpStatusEnum.INTERNAL_SERVER_ERROR);
+        }
+        ErrorMetrics.recordCode(error.getCode());
+        return error;
+    }
+}
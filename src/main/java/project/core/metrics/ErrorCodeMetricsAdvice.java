@@ -0,0 +1,38 @@
+package project.core.metrics;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import project.core.utils.ResultUtil;
+
+/**
+ * 记录全局异常处理器返回的错误码
+ * <p>
+ * 只对 @ExceptionHandler 方法生效，正常接口的返回值不经过这里
+ *
+ * @author tanwei
+ * @date 2026-10-18 20:20
+ **/
+@RestControllerAdvice
+public class ErrorCodeMetricsAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(ExceptionHandler.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body instanceof ResultUtil) {
+            ErrorMetrics.recordCode(((ResultUtil<?>) body).getCode());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,157 @@
+package project.core.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 错误指标
+ * <p>
+ * 按错误码、全局异常处理器方法、异常类分别计数。异常类数量有上限，超出的计入 {@link #OTHER}
+ *
+ * @author tanwei
+ * @date 2026-10-18 20:10
+ **/
+public final class ErrorMetrics {
+
+    /**
+     * 指标维度：错误码
+     */
+    public static final String CODE = "code";
+
+    /**
+     * 指标维度：处理器方法
+     */
+    public static final String HANDLER = "handler";
+
+    /**
+     * 指标维度：异常类
+     */
+    public static final String EXCEPTION = "exception";
+
+    /**
+     * 超出上限的异常类
+     */
+    public static final String OTHER = "other";
+
+    private static final int MAX_EXCEPTION_TYPES = 1000;
+
+    private static final Map<Integer, Meter> CODES = new ConcurrentHashMap<>(64);
+
+    private static final Map<String, Meter> HANDLERS = new ConcurrentHashMap<>(64);
+
+    private static final Map<Class<?>, Meter> EXCEPTIONS = new ConcurrentHashMap<>(128);
+
+    private static final Meter OTHER_EXCEPTIONS = new Meter();
+
+    private static final List<Listener> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private ErrorMetrics() {
+    }
+
+    /**
+     * 记录返回的错误码
+     *
+     * @param code 错误码
+     */
+    public static void recordCode(Integer code) {
+        if (code == null) {
+            return;
+        }
+        Meter meter = CODES.get(code);
+        if (meter == null) {
+            meter = CODES.computeIfAbsent(code, key -> created(CODE, String.valueOf(key)));
+        }
+        meter.mark();
+    }
+
+    /**
+     * 记录处理器处理的异常
+     *
+     * @param handler 处理器方法名
+     * @param type    异常类
+     */
+    public static void recordException(String handler, Class<?> type) {
+        Meter meter = HANDLERS.get(handler);
+        if (meter == null) {
+            meter = HANDLERS.computeIfAbsent(handler, key -> created(HANDLER, key));
+        }
+        meter.mark();
+
+        meter = EXCEPTIONS.get(type);
+        if (meter == null) {
+            meter = EXCEPTIONS.size() >= MAX_EXCEPTION_TYPES
+                    ? OTHER_EXCEPTIONS
+                    : EXCEPTIONS.computeIfAbsent(type, key -> created(EXCEPTION, key.getName()));
+        }
+        meter.mark();
+    }
+
+    /**
+     * 指标快照
+     *
+     * @return 维度 -> (key -> {count, m1Rate})
+     */
+    public static Map<String, Map<String, Map<String, Object>>> snapshot() {
+        Map<String, Map<String, Map<String, Object>>> snapshot = new LinkedHashMap<>(4);
+        Map<String, Map<String, Object>> codes = new LinkedHashMap<>(CODES.size() * 2);
+        CODES.forEach((code, meter) -> codes.put(String.valueOf(code), toMap(meter)));
+        Map<String, Map<String, Object>> handlers = new LinkedHashMap<>(HANDLERS.size() * 2);
+        HANDLERS.forEach((handler, meter) -> handlers.put(handler, toMap(meter)));
+        Map<String, Map<String, Object>> exceptions = new LinkedHashMap<>(EXCEPTIONS.size() * 2);
+        EXCEPTIONS.forEach((type, meter) -> exceptions.put(type.getName(), toMap(meter)));
+        if (OTHER_EXCEPTIONS.getCount() > 0) {
+            exceptions.put(OTHER, toMap(OTHER_EXCEPTIONS));
+        }
+        snapshot.put(CODE, codes);
+        snapshot.put(HANDLER, handlers);
+        snapshot.put(EXCEPTION, exceptions);
+        return snapshot;
+    }
+
+    /**
+     * 注册监听，新的指标出现时回调，已有指标立即回调一次
+     *
+     * @param listener 监听
+     */
+    public static synchronized void addListener(Listener listener) {
+        LISTENERS.add(listener);
+        CODES.forEach((code, meter) -> listener.created(CODE, String.valueOf(code), meter));
+        HANDLERS.forEach((handler, meter) -> listener.created(HANDLER, handler, meter));
+        EXCEPTIONS.forEach((type, meter) -> listener.created(EXCEPTION, type.getName(), meter));
+        listener.created(EXCEPTION, OTHER, OTHER_EXCEPTIONS);
+    }
+
+    private static Meter created(String dimension, String key) {
+        Meter meter = new Meter();
+        for (Listener listener : LISTENERS) {
+            listener.created(dimension, key, meter);
+        }
+        return meter;
+    }
+
+    private static Map<String, Object> toMap(Meter meter) {
+        Map<String, Object> map = new LinkedHashMap<>(4);
+        map.put("count", meter.getCount());
+        map.put("m1Rate", meter.getOneMinuteRate());
+        return map;
+    }
+
+    /**
+     * 新指标监听
+     */
+    @FunctionalInterface
+    public interface Listener {
+
+        /**
+         * 新指标创建
+         *
+         * @param dimension 维度
+         * @param key       key
+         * @param meter     指标
+         */
+        void created(String dimension, String key, Meter meter);
+    }
+}
@@ -0,0 +1,44 @@
+package project.core.metrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import project.core.filter.ConcurrencyLimiter;
+import project.core.utils.ResultUtil;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 错误指标接口，project.core.metrics.endpoint.enabled=true 时开启
+ * <p>
+ * 没有引入actuator的项目也能直接查看，路径通过 project.core.metrics.endpoint.path 修改
+ *
+ * @author tanwei
+ * @date 2026-10-18 20:25
+ **/
+@RestController
+@ConditionalOnProperty(prefix = "project.core.metrics.endpoint", name = "enabled", havingValue = "true")
+public class ErrorMetricsController {
+
+    private final ObjectProvider<ConcurrencyLimiter> concurrencyLimiter;
+
+    public ErrorMetricsController(ObjectProvider<ConcurrencyLimiter> concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    @GetMapping("${project.core.metrics.endpoint.path:/core/metrics}")
+    public ResultUtil<Map<String, Object>> metrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>(ErrorMetrics.snapshot());
+        ConcurrencyLimiter limiter = concurrencyLimiter.getIfAvailable();
+        if (limiter != null) {
+            Map<String, Object> concurrency = new LinkedHashMap<>(4);
+            concurrency.put("limit", limiter.getLimit());
+            concurrency.put("inflight", limiter.getInflight());
+            concurrency.put("shed", limiter.getShedCount());
+            metrics.put("concurrency", concurrency);
+        }
+        return ResultUtil.success(metrics);
+    }
+}
@@ -0,0 +1,90 @@
+package project.core.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 计数与速率
+ * <p>
+ * 计数基于 {@link LongAdder} 分段累加，记录一次的开销恒定；一分钟速率为每5秒一次的指数加权平均，
+ * 在记录或读取时按需推进，不需要后台线程
+ *
+ * @author tanwei
+ * @date 2026-10-18 20:00
+ **/
+public final class Meter {
+
+    private static final long TICK_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    /**
+     * 1分钟窗口的平滑系数
+     */
+    private static final double ALPHA = 1 - Math.exp(-5 / 60.0);
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder uncounted = new LongAdder();
+
+    private final AtomicLong lastTick = new AtomicLong(System.nanoTime());
+
+    /**
+     * 每纳秒速率
+     */
+    private volatile double rate;
+
+    private volatile boolean initialized;
+
+    /**
+     * 记录一次
+     */
+    public void mark() {
+        tickIfNecessary();
+        count.increment();
+        uncounted.increment();
+    }
+
+    /**
+     * 累计次数
+     *
+     * @return 次数
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * 最近一分钟的每秒速率
+     *
+     * @return 每秒次数
+     */
+    public double getOneMinuteRate() {
+        tickIfNecessary();
+        return rate * TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private void tickIfNecessary() {
+        long old = lastTick.get();
+        long age = System.nanoTime() - old;
+        if (age < TICK_NANOS) {
+            return;
+        }
+        long newTick = old + age - age % TICK_NANOS;
+        if (lastTick.compareAndSet(old, newTick)) {
+            long ticks = age / TICK_NANOS;
+            for (long i = 0; i < ticks; i++) {
+                tick();
+            }
+        }
+    }
+
+    private void tick() {
+        double instantRate = (double) uncounted.sumThenReset() / TICK_NANOS;
+        if (initialized) {
+            rate += ALPHA * (instantRate - rate);
+        } else {
+            rate = instantRate;
+            initialized = true;
+        }
+    }
+}
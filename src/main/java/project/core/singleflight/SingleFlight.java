@@ -0,0 +1,28 @@
+package project.core.singleflight;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 合并相同的并发请求
+ * <p>
+ * 路由 + 参数 + 租户相同的GET请求同时到达时只执行一次，其余请求等待并直接复用已经序列化好的响应体。
+ * 只合并正在执行的请求，执行结束后不缓存结果。标注在类上时对所有GET方法生效
+ *
+ * @author tanwei
+ * @date 2026-10-18 23:00
+ **/
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface SingleFlight {
+
+    /**
+     * 等待的最长时间（毫秒），超时后自行执行；0为使用 project.core.single-flight.max-wait（默认10秒），
+     * 有请求截止时间时不超过剩余时间
+     */
+    long timeout() default 0;
+}
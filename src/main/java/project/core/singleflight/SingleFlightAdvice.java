@@ -0,0 +1,65 @@
+package project.core.singleflight;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import project.core.etag.ETagSupport;
+import project.core.utils.ResultUtil;
+import project.core.utils.ResultWriter;
+
+/**
+ * 首个请求写出响应时只序列化一次，同一份字节交给所有等待的请求
+ * <p>
+ * 异常处理器的返回值同样共享，等待的请求得到与首个请求相同的错误结果，不计算ETag；排在 ETagAdvice 之前
+ *
+ * @author tanwei
+ * @date 2026-10-18 23:20
+ **/
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RestControllerAdvice
+public class SingleFlightAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(SingleFlight.class)
+                || returnType.getContainingClass().isAnnotationPresent(SingleFlight.class)
+                || returnType.hasMethodAnnotation(ExceptionHandler.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest) || !(response instanceof ServletServerHttpResponse)) {
+            return body;
+        }
+        SingleFlightGroup.Flight flight = (SingleFlightGroup.Flight) ((ServletServerHttpRequest) request)
+                .getServletRequest().getAttribute(SingleFlightInterceptor.ATTRIBUTE);
+        if (flight == null || flight.getResult().isDone()) {
+            return body;
+        }
+        if (!(body instanceof ResultUtil) || !ETagSupport.isJson(selectedContentType)) {
+            flight.abandon();
+            return body;
+        }
+
+        // 异常处理器的返回值同样是200，不计算ETag，等待的请求也不计算
+        boolean error = returnType.hasMethodAnnotation(ExceptionHandler.class);
+        SingleFlightGroup.SharedBody shared = new SingleFlightGroup.SharedBody(
+                ResultWriter.toBytes((ResultUtil<?>) body), selectedContentType.toString(), error);
+        flight.complete(shared);
+        // 直接写出已序列化的字节，返回null后不再经过消息转换器
+        boolean written = ETagSupport.write(((ServletServerHttpRequest) request).getServletRequest(),
+                ((ServletServerHttpResponse) response).getServletResponse(), shared.getBody(), shared.getContentType(), !error);
+        return written ? null : body;
+    }
+}
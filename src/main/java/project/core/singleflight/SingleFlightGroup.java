@@ -0,0 +1,125 @@
+package project.core.singleflight;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 正在执行的请求
+ *
+ * @author tanwei
+ * @date 2026-10-18 23:05
+ **/
+public class SingleFlightGroup {
+
+    private final Map<String, Flight> flights = new ConcurrentHashMap<>(64);
+
+    /**
+     * 加入请求
+     *
+     * @param key 请求key
+     * @return 新建的请求由调用方执行（{@link Flight#isLeader()}），否则等待已有请求的结果
+     */
+    public Flight join(String key) {
+        Flight flight = new Flight(this, key);
+        Flight existing = flights.putIfAbsent(key, flight);
+        return existing == null ? flight : existing.follower();
+    }
+
+    /**
+     * 当前正在执行的请求数
+     *
+     * @return 请求数
+     */
+    public int size() {
+        return flights.size();
+    }
+
+    /**
+     * 一次执行
+     */
+    public static class Flight {
+
+        private final SingleFlightGroup group;
+
+        private final String key;
+
+        private final CompletableFuture<SharedBody> result;
+
+        private final boolean leader;
+
+        private Flight(SingleFlightGroup group, String key) {
+            this(group, key, new CompletableFuture<>(), true);
+        }
+
+        private Flight(SingleFlightGroup group, String key, CompletableFuture<SharedBody> result, boolean leader) {
+            this.group = group;
+            this.key = key;
+            this.result = result;
+            this.leader = leader;
+        }
+
+        private Flight follower() {
+            return new Flight(group, key, result, false);
+        }
+
+        public boolean isLeader() {
+            return leader;
+        }
+
+        public CompletableFuture<SharedBody> getResult() {
+            return result;
+        }
+
+        /**
+         * 首个请求完成，唤醒等待的请求
+         *
+         * @param body 响应体
+         */
+        public void complete(SharedBody body) {
+            group.flights.remove(key, this);
+            result.complete(body);
+        }
+
+        /**
+         * 首个请求没有可复用的响应体，等待的请求各自执行
+         */
+        public void abandon() {
+            group.flights.remove(key, this);
+            result.cancel(false);
+        }
+    }
+
+    /**
+     * 首个请求的响应体
+     */
+    public static class SharedBody {
+
+        private final byte[] body;
+
+        private final String contentType;
+
+        /**
+         * 是否为异常处理器的返回值，不计算ETag
+         */
+        private final boolean error;
+
+        public SharedBody(byte[] body, String contentType, boolean error) {
+            this.body = body;
+            this.contentType = contentType;
+            this.error = error;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public boolean isError() {
+            return error;
+        }
+    }
+}
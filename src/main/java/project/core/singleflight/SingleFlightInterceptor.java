@@ -0,0 +1,126 @@
+package project.core.singleflight;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import project.core.deadline.Deadline;
+import project.core.etag.ETagSupport;
+import project.core.utils.HttpServletUtil;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 合并请求拦截器
+ * <p>
+ * 首个请求正常执行，由 {@link SingleFlightAdvice} 在写出响应时把响应体交给等待的请求；
+ * 其余请求在这里等待并直接写出，不进入控制器
+ *
+ * @author tanwei
+ * @date 2026-10-18 23:10
+ **/
+public class SingleFlightInterceptor implements HandlerInterceptor {
+
+    /**
+     * 首个请求保存在request中的属性名
+     */
+    public static final String ATTRIBUTE = SingleFlightInterceptor.class.getName();
+
+    private final SingleFlightGroup group;
+
+    /**
+     * 未指定超时时间时的最长等待时间（毫秒）
+     */
+    private final long maxWait;
+
+    public SingleFlightInterceptor(SingleFlightGroup group, long maxWait) {
+        this.group = group;
+        this.maxWait = Math.max(1, maxWait);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod) || request.getDispatcherType() != DispatcherType.REQUEST
+                || !HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        SingleFlight singleFlight = find((HandlerMethod) handler);
+        if (singleFlight == null) {
+            return true;
+        }
+
+        SingleFlightGroup.Flight flight = group.join(key(request));
+        if (flight.isLeader()) {
+            request.setAttribute(ATTRIBUTE, flight);
+            return true;
+        }
+        SingleFlightGroup.SharedBody shared = await(flight, singleFlight.timeout() > 0 ? singleFlight.timeout() : maxWait);
+        // 首个请求失败或等待超时，自行执行
+        return shared == null || !ETagSupport.write(request, response, shared.getBody(), shared.getContentType(), !shared.isError());
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        SingleFlightGroup.Flight flight = (SingleFlightGroup.Flight) request.getAttribute(ATTRIBUTE);
+        if (flight != null && !flight.getResult().isDone()) {
+            flight.abandon();
+        }
+    }
+
+    static SingleFlight find(HandlerMethod handlerMethod) {
+        SingleFlight singleFlight = handlerMethod.getMethodAnnotation(SingleFlight.class);
+        return singleFlight != null ? singleFlight : handlerMethod.getBeanType().getAnnotation(SingleFlight.class);
+    }
+
+    /**
+     * 应用内路径 + 按名称排序的参数 + 租户，同名参数的值保持原来的顺序（如多个sort的先后有含义）；
+     * 每一部分都带长度前缀，参数名和值中的 = & 等字符不会与其它请求混淆
+     */
+    static String key(HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(64);
+        append(key, HttpServletUtil.getPath(request));
+        Map<String, String[]> parameters = request.getParameterMap();
+        if (!parameters.isEmpty()) {
+            new TreeMap<>(parameters).forEach((name, values) -> {
+                key.append('?');
+                append(key, name);
+                key.append(values.length).append('*');
+                for (String value : values) {
+                    append(key, value);
+                }
+            });
+        }
+        String tenantId = HttpServletUtil.getTenantId();
+        if (tenantId != null) {
+            key.append('#');
+            append(key, tenantId);
+        }
+        return key.toString();
+    }
+
+    private static void append(StringBuilder key, String value) {
+        key.append(value.length()).append(':').append(value);
+    }
+
+    private static SingleFlightGroup.SharedBody await(SingleFlightGroup.Flight flight, long timeout) {
+        Deadline deadline = HttpServletUtil.getDeadline();
+        if (deadline != null) {
+            timeout = Math.min(timeout, Math.max(1, deadline.remaining(TimeUnit.MILLISECONDS)));
+        }
+        try {
+            return flight.getResult().get(timeout, TimeUnit.MILLISECONDS);
+        } catch (CancellationException | ExecutionException | TimeoutException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+}
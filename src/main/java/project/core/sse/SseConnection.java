@@ -0,0 +1,303 @@
+package project.core.sse;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 单个推送连接
+ * <p>
+ * 事件先进入有界队列，由发送线程池取出写出，同一连接同一时间最多一个发送任务；
+ * 队列满时丢弃最早的事件，合并事件在队列中只保留最新的一个。
+ * 输出流为非阻塞模式：{@link ServletOutputStream#isReady()} 为false时立即让出发送线程，
+ * 由容器在可写时回调 {@link #onWritePossible()} 继续，不读数据的客户端不会占住发送线程
+ *
+ * @author tanwei
+ * @date 2026-10-19 14:10
+ **/
+final class SseConnection implements WriteListener, AsyncListener {
+
+    /**
+     * 心跳，以注释行发送，客户端不会收到事件
+     */
+    private static final byte[] HEARTBEAT = ":heartbeat\n\n".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * 每个发送任务最多连续写出的事件数，之后重新排队，避免一个连接长期占用发送线程
+     */
+    private static final int BATCH = 16;
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private final String tenantId;
+
+    private final String userId;
+
+    private final AsyncContext asyncContext;
+
+    private final ServletOutputStream outputStream;
+
+    private final int capacity;
+
+    private final SseRegistry registry;
+
+    private final Executor executor;
+
+    /**
+     * 合并事件的key为事件名，其余为递增序号；不使用synchronized，避免在虚拟线程上固定载体线程
+     */
+    private final Map<Object, SseEvent> queue = new LinkedHashMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * 待发送心跳，不进入事件队列
+     */
+    private volatile boolean heartbeat;
+
+    /**
+     * 输出流不可写的开始时间（System.nanoTime），0为可写
+     */
+    private volatile long stalledSince;
+
+    /**
+     * 有已写出未flush的数据，只由当前发送任务访问，初始为true以尽快发出响应头
+     */
+    private boolean dirty = true;
+
+    SseConnection(String tenantId, String userId, AsyncContext asyncContext, ServletOutputStream outputStream,
+                  int capacity, SseRegistry registry, Executor executor) {
+        this.tenantId = tenantId;
+        this.userId = userId;
+        this.asyncContext = asyncContext;
+        this.outputStream = outputStream;
+        this.capacity = capacity;
+        this.registry = registry;
+        this.executor = executor;
+    }
+
+    /**
+     * 事件入队并安排发送，不做IO
+     */
+    void offer(SseEvent event) {
+        if (closed.get()) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (event.isCoalescing() && queue.containsKey(event.getName())) {
+                // 保留原来的位置，替换为最新的数据
+                queue.put(event.getName(), event);
+                registry.coalesced();
+                return;
+            }
+            if (queue.size() >= capacity) {
+                Iterator<SseEvent> iterator = queue.values().iterator();
+                iterator.next();
+                iterator.remove();
+                registry.dropped();
+            }
+            queue.put(event.isCoalescing() ? event.getName() : SEQUENCE.incrementAndGet(), event);
+        } finally {
+            lock.unlock();
+        }
+        schedule();
+    }
+
+    /**
+     * 发送心跳，队列中有待发送的事件或输出流不可写时跳过
+     */
+    void heartbeat() {
+        if (closed.get() || stalledSince != 0 || !isEmpty()) {
+            return;
+        }
+        heartbeat = true;
+        schedule();
+    }
+
+    /**
+     * 不可写超过指定时间
+     *
+     * @param timeoutNanos 超时时间（纳秒）
+     * @param now          当前时间
+     */
+    boolean isStalled(long timeoutNanos, long now) {
+        long since = stalledSince;
+        return since != 0 && now - since > timeoutNanos;
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (Exception e) {
+                // 发送线程池已关闭
+                scheduled.set(false);
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            for (int i = 0; i < BATCH && !closed.get(); i++) {
+                if (!ready()) {
+                    return;
+                }
+                SseEvent event = poll();
+                if (event == null) {
+                    break;
+                }
+                outputStream.write(event.getFrame());
+                dirty = true;
+                // 有数据写出时不需要心跳
+                heartbeat = false;
+            }
+            if (heartbeat && !closed.get()) {
+                if (!ready()) {
+                    return;
+                }
+                heartbeat = false;
+                outputStream.write(HEARTBEAT);
+                dirty = true;
+            }
+            if (dirty && !closed.get()) {
+                if (!ready()) {
+                    return;
+                }
+                outputStream.flush();
+                dirty = false;
+                // flush未完成时 isReady 返回false，容器写完后回调 onWritePossible
+                ready();
+            }
+        } catch (Exception e) {
+            // 客户端已断开或连接已结束
+            complete();
+        } finally {
+            scheduled.set(false);
+            // 不可写时等待 onWritePossible；onWritePossible 先清除 stalledSince 再尝试调度，这里不会漏掉
+            if (!closed.get() && stalledSince == 0 && (dirty || heartbeat || !isEmpty())) {
+                schedule();
+            }
+        }
+    }
+
+    /**
+     * 输出流是否可写，先记录不可写的开始时间再检查，保证与 onWritePossible 的清除顺序一致
+     */
+    private boolean ready() {
+        if (stalledSince == 0) {
+            stalledSince = System.nanoTime();
+        }
+        if (outputStream.isReady()) {
+            stalledSince = 0;
+            return true;
+        }
+        return false;
+    }
+
+    private SseEvent poll() {
+        lock.lock();
+        try {
+            Iterator<SseEvent> iterator = queue.values().iterator();
+            if (!iterator.hasNext()) {
+                return null;
+            }
+            SseEvent event = iterator.next();
+            iterator.remove();
+            return event;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isEmpty() {
+        lock.lock();
+        try {
+            return queue.isEmpty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onWritePossible() {
+        stalledSince = 0;
+        schedule();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        complete();
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+        // 客户端收到连接结束后自动重连
+        complete();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+        // 不会再次进入异步
+    }
+
+    /**
+     * 从注册表移除并结束异步请求
+     */
+    void complete() {
+        close();
+        try {
+            asyncContext.complete();
+        } catch (IllegalStateException e) {
+            // 异步请求已结束
+        }
+    }
+
+    /**
+     * 从注册表移除并丢弃待发送的事件，可重复调用
+     */
+    private void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        registry.remove(this);
+        lock.lock();
+        try {
+            queue.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    String getTenantId() {
+        return tenantId;
+    }
+
+    String getUserId() {
+        return userId;
+    }
+}
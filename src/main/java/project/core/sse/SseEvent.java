@@ -0,0 +1,70 @@
+package project.core.sse;
+
+import cn.hutool.core.util.StrUtil;
+import project.core.utils.ResultUtil;
+import project.core.utils.ResultWriter;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 推送事件，数据以 {@link ResultUtil} 包装，创建时编码为一帧 event/data，广播时所有连接共享同一份字节
+ *
+ * @author tanwei
+ * @date 2026-10-19 14:05
+ **/
+public final class SseEvent {
+
+    private final String name;
+
+    private final byte[] frame;
+
+    /**
+     * 是否合并，是则连接的队列中同名事件只保留最新的一个
+     */
+    private final boolean coalescing;
+
+    private SseEvent(String name, byte[] frame, boolean coalescing) {
+        this.name = name;
+        this.frame = frame;
+        this.coalescing = coalescing;
+    }
+
+    /**
+     * 创建事件
+     *
+     * @param name 事件名，对应客户端 addEventListener 的类型，不能包含换行
+     * @param data 数据，不是 ResultUtil 时以 {@link ResultUtil#success(Object)} 包装
+     * @return 事件
+     */
+    public static SseEvent of(String name, Object data) {
+        if (StrUtil.isEmpty(name) || StrUtil.containsAny(name, "\r", "\n")) {
+            throw new IllegalArgumentException("invalid event name: " + name);
+        }
+        ResultUtil<?> result = data instanceof ResultUtil ? (ResultUtil<?>) data : ResultUtil.success(data);
+        // 格式化输出的JSON可能包含换行，每行单独作为一个data字段
+        String json = ResultWriter.toJson(result).replace("\r\n", "\n").replace("\n", "\ndata: ");
+        String frame = "event: " + name + "\ndata: " + json + "\n\n";
+        return new SseEvent(name, frame.getBytes(StandardCharsets.UTF_8), false);
+    }
+
+    /**
+     * 合并事件，适用于状态类事件：慢连接的队列中同名事件只保留最新的一个，不丢弃其它事件
+     *
+     * @return 合并事件
+     */
+    public SseEvent coalescing() {
+        return coalescing ? this : new SseEvent(name, frame, true);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isCoalescing() {
+        return coalescing;
+    }
+
+    byte[] getFrame() {
+        return frame;
+    }
+}
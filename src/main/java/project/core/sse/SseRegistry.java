@@ -0,0 +1,305 @@
+package project.core.sse;
+
+import cn.hutool.core.util.StrUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import project.core.utils.HttpServletUtil;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 服务端推送（SSE）连接注册表，按 租户 + 用户 登记连接
+ * <p>
+ * 发送和广播只把同一个已编码的 {@link SseEvent} 放入各连接的有界队列，由少量发送线程以非阻塞方式逐个连接写出，
+ * 不为每个连接占用线程；慢连接的队列满时丢弃最早的事件，合并事件只保留最新的一个，
+ * 持续不可写超过 write-timeout 的连接被关闭，客户端重连后重新开始。
+ * 在 @RestController 的void方法中调用 {@link #connect(String)} 即可建立连接
+ *
+ * @author tanwei
+ * @date 2026-10-19 14:20
+ **/
+@Slf4j
+public class SseRegistry {
+
+    /**
+     * 推送请求的request属性，过滤器据此识别长连接
+     */
+    public static final String ATTRIBUTE = SseRegistry.class.getName();
+
+    /**
+     * 租户 -> 用户 -> 连接，一个用户可以有多个连接（多个页面、多端）
+     */
+    private final Map<String, Map<String, Set<SseConnection>>> connections = new ConcurrentHashMap<>(16);
+
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    private final LongAdder stalled = new LongAdder();
+
+    private final long timeout;
+
+    private final long writeTimeoutNanos;
+
+    private final int queueSize;
+
+    private final ExecutorService dispatcher;
+
+    private final ScheduledExecutorService heartbeat;
+
+    /**
+     * @param timeout         连接超时时间（毫秒）
+     * @param heartbeat       心跳间隔（秒），0为不发送
+     * @param writeTimeout    连接持续不可写的最长时间（毫秒）
+     * @param queueSize       每个连接最多排队的事件数
+     * @param dispatchThreads 发送线程数
+     */
+    public SseRegistry(long timeout, long heartbeat, long writeTimeout, int queueSize, int dispatchThreads) {
+        this.timeout = timeout;
+        this.writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(writeTimeout);
+        this.queueSize = Math.max(1, queueSize);
+        AtomicInteger index = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(Math.max(1, dispatchThreads), runnable -> {
+            Thread thread = new Thread(runnable, "sse-dispatch-" + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sse-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 心跳关闭时仍按秒检查不可写的连接
+        long period = heartbeat > 0 ? heartbeat : 1;
+        this.heartbeat.scheduleWithFixedDelay(() -> tick(heartbeat > 0), period, period, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 建立连接，租户取请求头 GatewayTenantId
+     *
+     * @param userId 用户
+     */
+    public void connect(String userId) {
+        connect(HttpServletUtil.getTenantId(), userId);
+    }
+
+    /**
+     * 在当前请求上建立连接，开启异步请求并把输出流切换为非阻塞模式，
+     * 调用方法须为 @RestController 的void方法（或声明 HttpServletResponse 参数），由本方法写出响应
+     *
+     * @param tenantId 租户，可为空
+     * @param userId   用户
+     */
+    public void connect(String tenantId, String userId) {
+        HttpServletRequest request = HttpServletUtil.getRequest();
+        HttpServletResponse response = HttpServletUtil.getResponse();
+        request.setAttribute(ATTRIBUTE, Boolean.TRUE);
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        // 禁止nginx缓冲
+        response.setHeader("X-Accel-Buffering", "no");
+
+        AsyncContext asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(timeout);
+        ServletOutputStream outputStream;
+        try {
+            outputStream = response.getOutputStream();
+        } catch (IOException e) {
+            asyncContext.complete();
+            throw new UncheckedIOException(e);
+        }
+        SseConnection connection = new SseConnection(StrUtil.nullToEmpty(tenantId), StrUtil.nullToEmpty(userId),
+                asyncContext, outputStream, queueSize, this, dispatcher);
+        asyncContext.addListener(connection);
+
+        connections.computeIfAbsent(connection.getTenantId(), key -> new ConcurrentHashMap<>(16))
+                .compute(connection.getUserId(), (key, set) -> {
+                    if (set == null) {
+                        set = ConcurrentHashMap.newKeySet();
+                    }
+                    set.add(connection);
+                    return set;
+                });
+        connectionCount.incrementAndGet();
+        // 容器在可写时回调 onWritePossible，首次回调时发出响应头
+        outputStream.setWriteListener(connection);
+    }
+
+    /**
+     * 推送给用户的所有连接
+     *
+     * @param tenantId 租户，可为空
+     * @param userId   用户
+     * @param event    事件
+     * @return 推送的连接数
+     */
+    public int send(String tenantId, String userId, SseEvent event) {
+        Map<String, Set<SseConnection>> users = connections.get(StrUtil.nullToEmpty(tenantId));
+        Set<SseConnection> set = users == null ? null : users.get(StrUtil.nullToEmpty(userId));
+        if (set == null) {
+            return 0;
+        }
+        return offer(set, event);
+    }
+
+    /**
+     * 推送给租户的所有连接
+     *
+     * @param tenantId 租户，可为空
+     * @param event    事件
+     * @return 推送的连接数
+     */
+    public int broadcast(String tenantId, SseEvent event) {
+        Map<String, Set<SseConnection>> users = connections.get(StrUtil.nullToEmpty(tenantId));
+        if (users == null) {
+            return 0;
+        }
+        int count = 0;
+        for (Set<SseConnection> set : users.values()) {
+            count += offer(set, event);
+        }
+        return count;
+    }
+
+    /**
+     * 推送给所有连接
+     *
+     * @param event 事件
+     * @return 推送的连接数
+     */
+    public int broadcast(SseEvent event) {
+        int count = 0;
+        for (Map<String, Set<SseConnection>> users : connections.values()) {
+            for (Set<SseConnection> set : users.values()) {
+                count += offer(set, event);
+            }
+        }
+        return count;
+    }
+
+    private int offer(Set<SseConnection> set, SseEvent event) {
+        int count = 0;
+        for (SseConnection connection : set) {
+            connection.offer(event);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * 关闭持续不可写的连接，向空闲连接发送心跳
+     */
+    private void tick(boolean sendHeartbeat) {
+        try {
+            long now = System.nanoTime();
+            for (Map<String, Set<SseConnection>> users : connections.values()) {
+                for (Set<SseConnection> set : users.values()) {
+                    for (SseConnection connection : set) {
+                        if (connection.isStalled(writeTimeoutNanos, now)) {
+                            stalled.increment();
+                            connection.complete();
+                        } else if (sendHeartbeat) {
+                            connection.heartbeat();
+                        }
+                    }
+                }
+            }
+        } catch (Throwable e) {
+            log.error("【SSE心跳异常】 {}", e.getMessage());
+        }
+    }
+
+    void remove(SseConnection connection) {
+        Map<String, Set<SseConnection>> users = connections.get(connection.getTenantId());
+        if (users == null) {
+            return;
+        }
+        boolean[] removed = new boolean[1];
+        users.computeIfPresent(connection.getUserId(), (key, set) -> {
+            removed[0] = set.remove(connection);
+            return set.isEmpty() ? null : set;
+        });
+        if (removed[0]) {
+            connectionCount.decrementAndGet();
+        }
+    }
+
+    void dropped() {
+        dropped.increment();
+    }
+
+    void coalesced() {
+        coalesced.increment();
+    }
+
+    /**
+     * 关闭所有连接，客户端会自动重连到其它实例
+     */
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        dispatcher.shutdownNow();
+        for (Map<String, Set<SseConnection>> users : connections.values()) {
+            for (Set<SseConnection> set : users.values()) {
+                for (SseConnection connection : set) {
+                    connection.complete();
+                }
+            }
+        }
+    }
+
+    /**
+     * 当前连接数
+     *
+     * @return 连接数
+     */
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    /**
+     * 队列满被丢弃的事件数
+     *
+     * @return 丢弃数
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * 被更新的事件合并掉的事件数
+     *
+     * @return 合并数
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * 因持续不可写被关闭的连接数
+     *
+     * @return 关闭数
+     */
+    public long getStalledCount() {
+        return stalled.sum();
+    }
+}
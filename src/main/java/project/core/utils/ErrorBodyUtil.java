@@ -0,0 +1,122 @@
+package project.core.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import project.core.constants.BaseExceptionEnum;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 预编码的错误响应体
+ * <p>
+ * 固定内容的 {@link ResultUtil} 错误响应只序列化一次，之后直接写字节到响应流，
+ * 不再经过消息转换器协商和JSON序列化
+ *
+ * @author tanwei
+ * @date 2026-10-18 11:40
+ **/
+@Slf4j
+public class ErrorBodyUtil {
+
+    /**
+     * 固定消息的缓存上限
+     */
+    private static final int MAX_CACHED = 1024;
+
+    /**
+     * 枚举常量 -> 响应体
+     */
+    private static final Map<BaseExceptionEnum, byte[]> ENUM_BODIES = new ConcurrentHashMap<>(64);
+
+    /**
+     * 错误码 -> (消息 -> 响应体)
+     */
+    private static final Map<Integer, Map<String, byte[]>> MESSAGE_BODIES = new ConcurrentHashMap<>(64);
+
+    /**
+     * 清空已缓存的响应体，更换序列化配置后调用
+     */
+    public static void clear() {
+        ENUM_BODIES.clear();
+        MESSAGE_BODIES.clear();
+    }
+
+    /**
+     * 获取错误枚举对应的响应体
+     *
+     * @param httpStatusEnum 错误枚举
+     * @return 响应体
+     */
+    public static byte[] getBytes(BaseExceptionEnum httpStatusEnum) {
+        if (!(httpStatusEnum instanceof Enum)) {
+            return encode(ResultUtil.error(httpStatusEnum));
+        }
+        return ENUM_BODIES.computeIfAbsent(httpStatusEnum, key -> encode(ResultUtil.error(key)));
+    }
+
+    /**
+     * 获取固定消息对应的响应体，消息应为常量，不要传入拼接了参数的消息
+     *
+     * @param message 提示信息
+     * @param code    错误码
+     * @return 响应体
+     */
+    public static byte[] getBytes(String message, Integer code) {
+        Map<String, byte[]> bodies = MESSAGE_BODIES.computeIfAbsent(code, key -> new ConcurrentHashMap<>(16));
+        byte[] body = bodies.get(message);
+        if (body != null) {
+            return body;
+        }
+        body = encode(ResultUtil.error(message, code));
+        if (bodies.size() < MAX_CACHED) {
+            bodies.putIfAbsent(message, body);
+        }
+        return body;
+    }
+
+    /**
+     * 将响应体直接写到响应流
+     *
+     * @param response http响应对象
+     * @param body     响应体
+     * @return 是否写入成功，响应已提交时返回false
+     */
+    public static boolean write(HttpServletResponse response, byte[] body) {
+        return write(response, body, MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    /**
+     * 将UTF-8编码的响应体直接写到响应流
+     *
+     * @param response    http响应对象
+     * @param body        响应体
+     * @param contentType 响应类型
+     * @return 是否写入成功，响应已提交时返回false
+     */
+    public static boolean write(HttpServletResponse response, byte[] body, String contentType) {
+        if (response.isCommitted()) {
+            return false;
+        }
+        try {
+            response.setContentType(contentType);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.toString());
+            response.setContentLength(body.length);
+            ServletOutputStream outputStream = response.getOutputStream();
+            outputStream.write(body);
+            outputStream.flush();
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.error("【预编码响应体写入异常】 {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static byte[] encode(ResultUtil<?> result) {
+        return ResultWriter.toBytes(result);
+    }
+}
@@ -3,6 +3,11 @@ package project.core.utils;
 import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.UrlPathHelper;
+import project.core.context.RequestContextSnapshot;
+import project.core.deadline.Deadline;
+import project.core.etag.ETagSupport;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -15,6 +20,7 @@ import javax.servlet.http.HttpServletResponse;
  **/
 public class HttpServletUtil {
 
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
 
     /**
      * 获取request
@@ -36,6 +42,78 @@ public class HttpServletUtil {
     }
 
 
+    /**
+     * 获取当前请求的截止时间
+     *
+     * @return 截止时间，未开启或未设置超时返回null
+     */
+    public static Deadline getDeadline() {
+        RequestContextSnapshot snapshot = RequestContextSnapshot.current();
+        if (snapshot != null) {
+            return snapshot.getDeadline();
+        }
+        ServletRequestAttributes attributes = getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        return (Deadline) attributes.getRequest().getAttribute(Deadline.ATTRIBUTE);
+    }
+
+
+    /**
+     * 按版本号判断内容是否变化，未变化时设置304，控制器直接返回null即可，不必查询数据和序列化
+     *
+     * @param version 版本号，如实体的版本、更新时间
+     * @return 是否未变化
+     */
+    public static boolean checkNotModified(Object version) {
+        ServletRequestAttributes attributes = getRequestAttributes();
+        return new ServletWebRequest(attributes.getRequest(), attributes.getResponse())
+                .checkNotModified(ETagSupport.versionTag(version));
+    }
+
+
+    /**
+     * 获取应用内的请求路径，不含context path；DispatcherServlet映射到 /api 等前缀时
+     * getServletPath 只返回前缀，这里返回完整路径，如 /api/orders
+     *
+     * @param request 请求对象
+     * @return 路径
+     */
+    public static String getPath(HttpServletRequest request) {
+        return URL_PATH_HELPER.getPathWithinApplication(request);
+    }
+
+
+    /**
+     * 获取当前请求的租户id
+     *
+     * @return 租户id，请求头 GatewayTenantId 不存在时返回null
+     */
+    public static String getTenantId() {
+        RequestContextSnapshot snapshot = RequestContextSnapshot.current();
+        if (snapshot != null) {
+            return snapshot.getTenantId();
+        }
+        ServletRequestAttributes attributes = getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        return attributes.getRequest().getHeader(RequestContextSnapshot.TENANT_ID_HEADER);
+    }
+
+
+    /**
+     * 捕获当前请求上下文，在其它线程中恢复后可继续使用本类的方法
+     *
+     * @return 快照
+     * @see project.core.context.ContextExecutors
+     */
+    public static RequestContextSnapshot snapshot() {
+        return RequestContextSnapshot.capture();
+    }
+
+
     /**
      * 获取ServletRequestAttributes
      *
@@ -0,0 +1,149 @@
+package project.core.utils;
+
+import cn.hutool.core.util.StrUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 预编译的消息模板
+ * <p>
+ * 与 {@link StrUtil#format(CharSequence, Object...)} 语义一致（{} 占位，\{} 转义），
+ * 但模板只解析一次，之后每次格式化只做拼接
+ *
+ * @author tanwei
+ * @date 2026-10-18 10:40
+ **/
+public final class MessageTemplate {
+
+    /**
+     * 模板缓存上限，超出后不再缓存，避免动态拼接的消息撑爆内存
+     */
+    private static final int MAX_CACHED = 4096;
+
+    private static final Map<String, MessageTemplate> CACHE = new ConcurrentHashMap<>(256);
+
+    private static final String PLACEHOLDER = StrUtil.EMPTY_JSON;
+
+    private static final char ESCAPE = StrUtil.C_BACKSLASH;
+
+    /**
+     * 原始模板
+     */
+    private final String pattern;
+
+    /**
+     * 字面量片段，片段 i 之后紧跟第 i 个占位符，最后一个片段之后没有占位符
+     */
+    private final String[] segments;
+
+    /**
+     * 最后一个占位符之后的原始模板，参数个数与占位符个数相同时原样输出（不处理转义），与hutool一致
+     */
+    private final String rawTail;
+
+    /**
+     * 模板中字面量的总长度，用于预估结果长度
+     */
+    private final int literalLength;
+
+    private MessageTemplate(String pattern) {
+        this.pattern = pattern;
+        List<String> parts = new ArrayList<>();
+        StringBuilder literal = new StringBuilder(pattern.length());
+        int length = pattern.length();
+        int handled = 0;
+        int tailStart = 0;
+        int index;
+        while ((index = pattern.indexOf(PLACEHOLDER, handled)) != -1) {
+            boolean escaped = index > 0 && pattern.charAt(index - 1) == ESCAPE;
+            boolean doubleEscaped = index > 1 && escaped && pattern.charAt(index - 2) == ESCAPE;
+            if (escaped && !doubleEscaped) {
+                // \{} 输出字面量 {}
+                literal.append(pattern, handled, index - 1).append(StrUtil.C_DELIM_START);
+                handled = index + 1;
+                continue;
+            }
+            // \\{} 输出一个 \ 加参数
+            literal.append(pattern, handled, doubleEscaped ? index - 1 : index);
+            parts.add(literal.toString());
+            literal.setLength(0);
+            handled = index + PLACEHOLDER.length();
+            tailStart = handled;
+        }
+        this.rawTail = pattern.substring(tailStart);
+        literal.append(pattern, handled, length);
+        parts.add(literal.toString());
+        this.segments = parts.toArray(new String[0]);
+        int total = 0;
+        for (String segment : segments) {
+            total += segment.length();
+        }
+        this.literalLength = total;
+    }
+
+    /**
+     * 获取模板，相同模板只解析一次
+     *
+     * @param pattern 模板
+     * @return 预编译模板
+     */
+    public static MessageTemplate of(String pattern) {
+        MessageTemplate template = CACHE.get(pattern);
+        if (template != null) {
+            return template;
+        }
+        template = new MessageTemplate(pattern);
+        if (CACHE.size() < MAX_CACHED) {
+            CACHE.putIfAbsent(pattern, template);
+        }
+        return template;
+    }
+
+    /**
+     * 格式化
+     *
+     * @param params 参数
+     * @return 格式化后的字符串
+     */
+    public String format(Object... params) {
+        if (params == null || params.length == 0) {
+            return pattern;
+        }
+        if (segments.length == 1) {
+            return segments[0];
+        }
+        if (params.length < segments.length - 1) {
+            // 参数不足时剩余部分原样输出，转义规则与预编译结果不同，交给hutool处理
+            return StrUtil.format(pattern, params);
+        }
+
+        StringBuilder builder = new StringBuilder(literalLength + 16 * params.length);
+        int last = segments.length - 1;
+        for (int i = 0; i < last; i++) {
+            builder.append(segments[i]).append(StrUtil.utf8Str(params[i]));
+        }
+        // 参数恰好用完时hutool不再处理剩余部分的转义，多余的参数会继续查找占位符并处理转义
+        return builder.append(params.length == last ? rawTail : segments[last]).toString();
+    }
+
+    /**
+     * 占位符个数
+     *
+     * @return 个数
+     */
+    public int getPlaceholderCount() {
+        return segments.length - 1;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
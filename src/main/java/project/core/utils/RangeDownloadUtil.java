@@ -0,0 +1,317 @@
+package project.core.utils;
+
+import cn.hutool.core.util.StrUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 断点续传下载工具类
+ * <p>
+ * 支持单段、多段 Range，If-Range，ETag/Last-Modified 协商缓存，并保持连接。
+ * 数据通过 {@link FileChannel#transferTo} 写出；在tomcat上下载 {@link Path} 时使用sendfile零拷贝
+ *
+ * @author tanwei
+ * @date 2026-10-18 14:10
+ **/
+@Slf4j
+public class RangeDownloadUtil {
+
+    private static final String RANGE_PREFIX = "bytes=";
+
+    /**
+     * 最多支持的分段数，超出后返回整个文件，避免恶意的大量分段请求
+     */
+    private static final int MAX_RANGES = 16;
+
+    /**
+     * tomcat sendfile 相关属性
+     */
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /**
+     * 小于该大小的数据直接写出，与tomcat DefaultServlet的sendfileSize一致
+     */
+    private static final long SENDFILE_THRESHOLD = 48 * 1024;
+
+    private static final String CRLF = "\r\n";
+
+    /**
+     * 下载文件
+     *
+     * @param path     文件路径
+     * @param fileName 下载文件名
+     */
+    public static void download(Path path, String fileName) {
+        download(HttpServletUtil.getRequest(), HttpServletUtil.getResponse(), path, fileName);
+    }
+
+    /**
+     * 下载文件
+     *
+     * @param request  http请求对象
+     * @param response http响应对象
+     * @param path     文件路径
+     * @param fileName 下载文件名
+     */
+    public static void download(HttpServletRequest request, HttpServletResponse response, Path path, String fileName) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long lastModified = Files.getLastModifiedTime(path).toMillis();
+            serve(request, response, channel, path, lastModified, fileName);
+        } catch (NoSuchFileException e) {
+            log.error("【文件下载】文件不存在 {}", path);
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+        } catch (IOException e) {
+            log.error("【文件下载异常】文件：{} 错误信息：{}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * 下载文件，通道由调用方关闭
+     *
+     * @param request      http请求对象
+     * @param response     http响应对象
+     * @param channel      文件通道
+     * @param lastModified 最后修改时间（毫秒）
+     * @param fileName     下载文件名
+     */
+    public static void download(HttpServletRequest request, HttpServletResponse response, FileChannel channel,
+                                long lastModified, String fileName) {
+        try {
+            serve(request, response, channel, null, lastModified, fileName);
+        } catch (IOException e) {
+            log.error("【文件下载异常】文件：{} 错误信息：{}", fileName, e.getMessage());
+        }
+    }
+
+    private static void serve(HttpServletRequest request, HttpServletResponse response, FileChannel channel, Path path,
+                              long lastModified, String fileName) throws IOException {
+        long length = channel.size();
+        String etag = etag(length, lastModified);
+
+        ResponseUtil.setDownHeader(response, fileName, false);
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+
+        if (notModified(request, etag, lastModified)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        boolean head = HttpMethod.HEAD.matches(request.getMethod());
+        List<long[]> ranges = parseRanges(request, etag, lastModified, length);
+        if (ranges == null) {
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentLengthLong(length);
+            if (!head) {
+                transfer(request, response, channel, path, 0, length);
+            }
+            return;
+        }
+
+        if (ranges.isEmpty()) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+            return;
+        }
+
+        response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+        if (ranges.size() == 1) {
+            long[] range = ranges.get(0);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, contentRange(range, length));
+            response.setContentLengthLong(range[1] - range[0] + 1);
+            if (!head) {
+                transfer(request, response, channel, path, range[0], range[1] - range[0] + 1);
+            }
+            return;
+        }
+
+        writeMultipart(request, response, channel, ranges, length, head);
+    }
+
+    /**
+     * multipart/byteranges 多段响应
+     */
+    private static void writeMultipart(HttpServletRequest request, HttpServletResponse response, FileChannel channel,
+                                       List<long[]> ranges, long length, boolean head) throws IOException {
+        String boundary = Long.toHexString(ThreadLocalRandom.current().nextLong()) + Long.toHexString(System.nanoTime());
+        List<byte[]> partHeaders = new ArrayList<>(ranges.size());
+        long contentLength = 0;
+        for (long[] range : ranges) {
+            byte[] partHeader = (CRLF + "--" + boundary + CRLF
+                    + HttpHeaders.CONTENT_TYPE + ": " + MediaType.APPLICATION_OCTET_STREAM_VALUE + CRLF
+                    + HttpHeaders.CONTENT_RANGE + ": " + contentRange(range, length) + CRLF + CRLF)
+                    .getBytes(StandardCharsets.ISO_8859_1);
+            partHeaders.add(partHeader);
+            contentLength += partHeader.length + range[1] - range[0] + 1;
+        }
+        byte[] trailer = (CRLF + "--" + boundary + "--" + CRLF).getBytes(StandardCharsets.ISO_8859_1);
+        contentLength += trailer.length;
+
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(contentLength);
+        if (head) {
+            return;
+        }
+
+        ServletOutputStream outputStream = response.getOutputStream();
+        for (int i = 0; i < ranges.size(); i++) {
+            long[] range = ranges.get(i);
+            outputStream.write(partHeaders.get(i));
+            transfer(request, response, channel, null, range[0], range[1] - range[0] + 1);
+        }
+        outputStream.write(trailer);
+        outputStream.flush();
+    }
+
+    /**
+     * 写出文件区间，支持时交给tomcat sendfile
+     */
+    private static void transfer(HttpServletRequest request, HttpServletResponse response, FileChannel channel, Path path,
+                                 long position, long count) throws IOException {
+        if (path != null && count >= SENDFILE_THRESHOLD && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, position);
+            request.setAttribute(SENDFILE_END, position + count);
+            return;
+        }
+
+        WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+        long remaining = count;
+        while (remaining > 0) {
+            long transferred = channel.transferTo(position, remaining, target);
+            if (transferred <= 0) {
+                throw new EOFException("文件在下载过程中被截断");
+            }
+            position += transferred;
+            remaining -= transferred;
+        }
+    }
+
+    /**
+     * 解析Range
+     *
+     * @return null 返回整个文件；空列表 区间无法满足
+     */
+    private static List<long[]> parseRanges(HttpServletRequest request, String etag, long lastModified, long length) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null || !header.startsWith(RANGE_PREFIX) || !matchIfRange(request, etag, lastModified)) {
+            return null;
+        }
+
+        List<String> specs = StrUtil.split(header.substring(RANGE_PREFIX.length()), StrUtil.C_COMMA, true, true);
+        if (specs.isEmpty() || specs.size() > MAX_RANGES) {
+            return null;
+        }
+
+        List<long[]> ranges = new ArrayList<>(specs.size());
+        try {
+            for (String spec : specs) {
+                int dash = spec.indexOf('-');
+                if (dash < 0) {
+                    return null;
+                }
+                String first = spec.substring(0, dash).trim();
+                String last = spec.substring(dash + 1).trim();
+                long start;
+                long end;
+                if (first.isEmpty()) {
+                    // 后缀区间：最后n个字节
+                    long suffix = Long.parseLong(last);
+                    if (suffix <= 0 || length == 0) {
+                        continue;
+                    }
+                    start = Math.max(0, length - suffix);
+                    end = length - 1;
+                } else {
+                    start = Long.parseLong(first);
+                    end = last.isEmpty() ? length - 1 : Long.parseLong(last);
+                    if (start < 0 || end < start) {
+                        return null;
+                    }
+                    if (start >= length) {
+                        continue;
+                    }
+                    end = Math.min(end, length - 1);
+                }
+                ranges.add(new long[]{start, end});
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return ranges;
+    }
+
+    /**
+     * If-Range 不匹配时返回整个文件
+     */
+    private static boolean matchIfRange(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        ifRange = ifRange.trim();
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // If-Range 只能强比较
+            return ifRange.equals(etag);
+        }
+        try {
+            long date = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return date != -1 && lastModified / 1000 <= date / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 协商缓存是否命中
+     */
+    private static boolean notModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            for (String tag : StrUtil.split(ifNoneMatch, StrUtil.C_COMMA, true, true)) {
+                if ("*".equals(tag) || etag.equals(StrUtil.removePrefix(tag, "W/"))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        try {
+            long ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+            return ifModifiedSince != -1 && lastModified / 1000 <= ifModifiedSince / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static String etag(long length, long lastModified) {
+        return "\"" + Long.toHexString(length) + StrUtil.DASHED + Long.toHexString(lastModified) + "\"";
+    }
+
+    private static String contentRange(long[] range, long length) {
+        return "bytes " + range[0] + StrUtil.DASHED + range[1] + StrUtil.SLASH + length;
+    }
+}
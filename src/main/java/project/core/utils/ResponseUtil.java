@@ -52,6 +52,31 @@ public class ResponseUtil {
         }
     }
 
+    /**
+     * 将返回结果流式渲染到客户端，直接以UTF-8写到输出流，不生成中间字符串
+     *
+     * @param result 返回结果
+     */
+    public static void renderResult(ResultUtil<?> result) {
+        renderResult(HttpServletUtil.getResponse(), result);
+    }
+
+    /**
+     * 将返回结果流式渲染到客户端，直接以UTF-8写到输出流，不生成中间字符串
+     *
+     * @param response http响应对象
+     * @param result   返回结果
+     */
+    public static void renderResult(HttpServletResponse response, ResultUtil<?> result) {
+        try {
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.toString());
+            ResultWriter.write(result, response.getOutputStream());
+        } catch (IllegalStateException | IOException e) {
+            log.error("【将返回结果渲染到客户端异常】", e);
+        }
+    }
+
     /**
      * 设置下载的响应头信息
      *
@@ -68,12 +93,25 @@ public class ResponseUtil {
      * @param fileName 文件名称
      */
     public static void setDownHeader(HttpServletResponse response, String fileName) {
+        setDownHeader(response, fileName, true);
+    }
+
+    /**
+     * 设置下载的响应头信息
+     *
+     * @param response http响应对象
+     * @param fileName 文件名称
+     * @param close    是否关闭连接，断点续传、多线程下载应保持连接
+     */
+    public static void setDownHeader(HttpServletResponse response, String fileName, boolean close) {
         // 清空输出流
         // response.reset();
         // 表明这是一个二进制文件
         response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
         // 表示不能用浏览器直接打开
-        response.setHeader(HttpHeaders.CONNECTION, "close");
+        if (close) {
+            response.setHeader(HttpHeaders.CONNECTION, "close");
+        }
         // 让浏览器不缓存
         response.setHeader(HttpHeaders.PRAGMA, "No-cache");
         // 告诉客户端允许断点续传多线程连接下载
@@ -98,6 +136,18 @@ public class ResponseUtil {
         setDownHeader(response, addColonEnd(fileName, StrUtil.DOT + FileSuffixEnum.XLSX.getOrdinal()));
     }
 
+    /**
+     * 流式下载excel，逐行写到响应流，使用完需关闭
+     *
+     * @param fileName 文件名称
+     * @return xlsx写出器
+     * @throws IOException 获取输出流异常
+     */
+    public static XlsxStreamWriter excelDownload(String fileName) throws IOException {
+        setExcelHeader(fileName);
+        return new XlsxStreamWriter(HttpServletUtil.getResponse().getOutputStream());
+    }
+
     /**
      * 设置下载zip的响应头信息
      *
@@ -107,13 +157,25 @@ public class ResponseUtil {
         setDownHeader(addColonEnd(fileName, StrUtil.DOT + FileSuffixEnum.ZIP.getOrdinal()));
     }
 
+    /**
+     * 流式下载zip，条目边生成边写到响应流，使用完需关闭
+     *
+     * @param fileName 文件名
+     * @return zip写出器
+     * @throws IOException 获取输出流异常
+     */
+    public static ZipStreamWriter zipDownload(String fileName) throws IOException {
+        setZipDownLoadHeader(fileName);
+        return new ZipStreamWriter(HttpServletUtil.getResponse().getOutputStream());
+    }
+
     /**
      * 下载文件名重新编码
      *
      * @param fileName 文件名
      * @return 编码后的文件名
      */
-    private static String encodeDownloadFilename(String fileName) {
+    static String encodeDownloadFilename(String fileName) {
         if (StrUtil.isBlank(fileName)) {
             return null;
         }
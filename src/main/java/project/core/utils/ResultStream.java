@@ -0,0 +1,57 @@
+package project.core.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 流式返回结果，通过 {@link ResultUtil#stream(Stream)} 创建
+ * <p>
+ * 写出时逐个拉取元素并立即序列化，不在内存中保留整个结果集；写出结束（包括失败）后关闭数据源，
+ * 格式见 project.core.json.ResultStreamHttpMessageConverter
+ *
+ * @author tanwei
+ * @date 2026-10-19 13:10
+ **/
+@Slf4j
+public final class ResultStream<T> implements AutoCloseable {
+
+    private final Iterator<? extends T> iterator;
+
+    /**
+     * 数据源，可为空
+     */
+    private final AutoCloseable source;
+
+    private final String message;
+
+    ResultStream(Iterator<? extends T> iterator, AutoCloseable source, String message) {
+        this.iterator = iterator;
+        this.source = source;
+        this.message = message;
+    }
+
+    public Iterator<? extends T> iterator() {
+        return iterator;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * 关闭数据源，如数据库游标
+     */
+    @Override
+    public void close() {
+        if (source == null) {
+            return;
+        }
+        try {
+            source.close();
+        } catch (Exception e) {
+            log.error("【流式返回】 关闭数据源异常 {}", e.getMessage(), e);
+        }
+    }
+}
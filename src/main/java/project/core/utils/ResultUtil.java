@@ -1,16 +1,26 @@
 package project.core.utils;
 
 
-import com.alibaba.fastjson.JSONObject;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.web.context.request.async.DeferredResult;
 import project.core.constants.BaseExceptionEnum;
+import project.core.constants.CommonHttpStatusEnum;
+import project.core.deadline.Deadline;
+import project.core.exception.BaseException;
 
 import java.io.Serializable;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 /**
  * 返回工具
@@ -116,12 +126,110 @@ public class ResultUtil<D> implements Serializable {
         return build(null, httpStatusEnum.getMessage(), code);
     }
 
+    /**
+     * 异步返回，请求线程立即释放，future完成后再写出响应
+     * <p>
+     * 正常完成时返回 {@link #success(Object)}；异常交给全局异常处理器，与同步抛出的结果一致；
+     * 超时返回 {@link CommonHttpStatusEnum#REQUEST_TIMED_OUT}，超时时间取请求截止时间的剩余时间，
+     * 没有截止时间时使用 spring.mvc.async.request-timeout
+     *
+     * @param future 异步结果
+     * @param <D>    数据类型
+     * @return DeferredResult
+     */
+    public static <D> DeferredResult<ResultUtil<D>> async(CompletionStage<D> future) {
+        return async(future, null);
+    }
+
+    /**
+     * 异步返回，超时时间取参数与请求截止时间剩余时间中较小的一个
+     *
+     * @param future  异步结果
+     * @param timeout 超时时间（毫秒），null为不指定
+     * @param <D>     数据类型
+     * @return DeferredResult
+     * @see #async(CompletionStage)
+     */
+    public static <D> DeferredResult<ResultUtil<D>> async(CompletionStage<D> future, Long timeout) {
+        Deadline deadline = HttpServletUtil.getDeadline();
+        if (deadline != null) {
+            long remaining = deadline.remaining(TimeUnit.MILLISECONDS);
+            // DeferredResult 的超时时间为0时表示不限制，至少保留1毫秒
+            timeout = Math.max(1, timeout == null ? remaining : Math.min(timeout, remaining));
+        }
+
+        DeferredResult<ResultUtil<D>> result = new DeferredResult<>(timeout);
+        result.onTimeout(() -> {
+            result.setErrorResult(BaseException.of(CommonHttpStatusEnum.REQUEST_TIMED_OUT));
+            // 通知下游放弃执行
+            if (future instanceof Future) {
+                ((Future<?>) future).cancel(false);
+            }
+        });
+        future.whenComplete((data, throwable) -> {
+            if (throwable == null) {
+                result.setResult(success(data));
+            } else {
+                result.setErrorResult(unwrap(throwable));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 流式返回，元素在写出时逐个拉取并序列化，适用于导出、同步等大结果集；写出结束后关闭stream
+     * <p>
+     * 默认写出 {"code":200,"message":"操作成功","data":[...]}，请求头 Accept: application/x-ndjson 时每行一个元素，
+     * 最后一行为结果；中途异常时写出错误结尾，见 project.core.json.ResultStreamHttpMessageConverter
+     *
+     * @param stream 数据
+     * @param <T>    元素类型
+     * @return 流式结果
+     */
+    public static <T> ResultStream<T> stream(Stream<T> stream) {
+        return new ResultStream<>(stream.iterator(), stream::close, StatusEnum.SUCCESS.message);
+    }
+
+    /**
+     * 流式返回
+     *
+     * @param iterator 数据，实现了 AutoCloseable 时写出结束后关闭
+     * @param <T>      元素类型
+     * @return 流式结果
+     * @see #stream(Stream)
+     */
+    public static <T> ResultStream<T> stream(Iterator<T> iterator) {
+        return new ResultStream<>(iterator, iterator instanceof AutoCloseable ? (AutoCloseable) iterator : null,
+                StatusEnum.SUCCESS.message);
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        while ((throwable instanceof CompletionException || throwable instanceof ExecutionException)
+                && throwable.getCause() != null) {
+            throwable = throwable.getCause();
+        }
+        return throwable;
+    }
+
     private static <D> ResultUtil<D> build(D data, String message, Integer code) {
         return new ResultUtil<>(data, message, code);
     }
 
+    /**
+     * 与原fastjson输出一致，省略为null的字段，字段按名称排序；data内部按JSON引擎的配置序列化
+     */
     @Override
     public String toString() {
-        return JSONObject.toJSONString(this);
+        StringBuilder builder = new StringBuilder("{");
+        if (code != null) {
+            builder.append("\"code\":").append(code);
+        }
+        if (data != null) {
+            builder.append(builder.length() > 1 ? "," : "").append("\"data\":").append(ResultWriter.toJson(data));
+        }
+        if (message != null) {
+            builder.append(builder.length() > 1 ? "," : "").append("\"message\":").append(ResultWriter.toJson(message));
+        }
+        return builder.append('}').toString();
     }
 }
\ No newline at end of file
@@ -0,0 +1,73 @@
+package project.core.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import project.core.json.JacksonJsonEngine;
+import project.core.json.JsonEngine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * {@link ResultUtil} 流式写出
+ * <p>
+ * 委托给当前的 {@link JsonEngine}，未配置时使用默认ObjectMapper的jackson引擎
+ *
+ * @author tanwei
+ * @date 2026-10-18 13:20
+ **/
+public class ResultWriter {
+
+    private static volatile JsonEngine engine = new JacksonJsonEngine(new ObjectMapper());
+
+    /**
+     * 设置JSON引擎
+     *
+     * @param engine 引擎
+     */
+    public static void setEngine(JsonEngine engine) {
+        ResultWriter.engine = engine;
+    }
+
+    public static JsonEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * 写到输出流，不关闭输出流
+     *
+     * @param result       返回结果
+     * @param outputStream 输出流
+     * @throws IOException 写出异常
+     */
+    public static void write(ResultUtil<?> result, OutputStream outputStream) throws IOException {
+        engine.write(result, outputStream);
+    }
+
+    /**
+     * 序列化为UTF-8字节
+     *
+     * @param result 返回结果
+     * @return 字节
+     */
+    public static byte[] toBytes(ResultUtil<?> result) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(128);
+        try {
+            write(result, outputStream);
+        } catch (IOException e) {
+            // 内存流不会发生
+            throw new IllegalStateException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * 序列化为字符串
+     *
+     * @param value 对象
+     * @return JSON
+     */
+    public static String toJson(Object value) {
+        return engine.toJson(value);
+    }
+}
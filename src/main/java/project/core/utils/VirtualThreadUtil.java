@@ -0,0 +1,130 @@
+package project.core.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+
+/**
+ * 虚拟线程工具
+ * <p>
+ * 项目按Java 8编译，Java 21的API全部通过反射调用，低版本JDK（包括未开启预览的Java 19/20）上 {@link #isAvailable()} 返回false
+ *
+ * @author tanwei
+ * @date 2026-10-18 22:20
+ **/
+@Slf4j
+public class VirtualThreadUtil {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final Method OF_VIRTUAL;
+
+    private static final Method NAME;
+
+    private static final Method FACTORY;
+
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null;
+        Method name = null;
+        Method factory = null;
+        Method newThreadPerTaskExecutor = null;
+        try {
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            name = builder.getMethod("name", String.class, long.class);
+            factory = builder.getMethod("factory");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            // Java 19/20 未开启 --enable-preview 时方法存在，但调用抛出 UnsupportedOperationException
+            ofVirtual.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Java 21以下
+            ofVirtual = null;
+            name = null;
+            factory = null;
+            newThreadPerTaskExecutor = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        FACTORY = factory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    /**
+     * 当前JDK是否支持虚拟线程
+     *
+     * @return 是否支持
+     */
+    public static boolean isAvailable() {
+        return NEW_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * 创建虚拟线程工厂
+     *
+     * @param prefix 线程名前缀，后面追加从0开始的序号
+     * @return 线程工厂
+     * @throws IllegalStateException 不支持虚拟线程
+     */
+    public static ThreadFactory newThreadFactory(String prefix) {
+        checkAvailable();
+        try {
+            Object builder = NAME.invoke(OF_VIRTUAL.invoke(null), prefix, 0L);
+            return (ThreadFactory) FACTORY.invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("创建虚拟线程工厂失败", e);
+        }
+    }
+
+    /**
+     * 创建每个任务一个虚拟线程的线程池
+     *
+     * @param prefix 线程名前缀
+     * @return 线程池
+     * @throws IllegalStateException 不支持虚拟线程
+     */
+    public static ExecutorService newExecutor(String prefix) {
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, newThreadFactory(prefix));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("创建虚拟线程池失败", e);
+        }
+    }
+
+    /**
+     * 通过JFR监听虚拟线程固定（pinned）事件，虚拟线程在 synchronized 或本地方法中阻塞超过阈值时打印堆栈
+     *
+     * @param threshold 阈值
+     * @return 监听，关闭时调用 {@link AutoCloseable#close()}；JFR不可用时返回null
+     */
+    public static AutoCloseable watchPinned(Duration threshold) {
+        checkAvailable();
+        try {
+            Class<?> streamClass = Class.forName("jdk.jfr.consumer.RecordingStream");
+            Class<?> settingsClass = Class.forName("jdk.jfr.EventSettings");
+            Object stream = streamClass.getConstructor().newInstance();
+            Object settings = streamClass.getMethod("enable", String.class).invoke(stream, PINNED_EVENT);
+            settingsClass.getMethod("withThreshold", Duration.class).invoke(settings, threshold);
+            settingsClass.getMethod("withStackTrace").invoke(settings);
+            Consumer<Object> handler = event -> log.warn("【虚拟线程固定】 {}", event);
+            streamClass.getMethod("onEvent", String.class, Consumer.class).invoke(stream, PINNED_EVENT, handler);
+            streamClass.getMethod("startAsync").invoke(stream);
+            return (AutoCloseable) stream;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("【虚拟线程固定】 JFR监听启动失败 {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static void checkAvailable() {
+        if (!isAvailable()) {
+            throw new IllegalStateException("当前JDK不支持虚拟线程，需要Java 21及以上");
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package project.core.utils;
+
+import cn.hutool.core.date.DatePattern;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAccessor;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 流式XLSX写出
+ * <p>
+ * 行数据逐行写成OOXML并通过 {@link ZipStreamWriter} 直接压缩到输出流，不在内存中构建工作簿：
+ * 字符串使用内联字符串（inlineStr），不维护共享字符串表；每个sheet写满 {@link #MAX_ROWS} 行后自动换下一个sheet。
+ * 内存占用只有固定大小的写缓冲和压缩缓冲，与行数无关
+ *
+ * @author tanwei
+ * @date 2026-10-18 15:30
+ **/
+public class XlsxStreamWriter implements Closeable {
+
+    /**
+     * excel单个sheet最大行数
+     */
+    public static final int MAX_ROWS = 1048576;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * excel sheet名称最大长度
+     */
+    private static final int MAX_SHEET_NAME = 31;
+
+    /**
+     * excel sheet名称不允许的字符
+     */
+    private static final String INVALID_SHEET_CHARS = "[]:*?/\\";
+
+    private static final String XML_HEADER = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+
+    private static final String SHEET_START = XML_HEADER
+            + "<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"><sheetData>";
+
+    private static final String SHEET_END = "</sheetData></worksheet>";
+
+    private final ZipStreamWriter zip;
+
+    private final String sheetName;
+
+    /**
+     * 每个sheet首行的表头，为空则不写
+     */
+    private List<String> headers;
+
+    private Writer sheet;
+
+    private int sheetCount;
+
+    /**
+     * 当前sheet已写行数
+     */
+    private int rowIndex;
+
+    private boolean finished;
+
+    public XlsxStreamWriter(OutputStream out) {
+        this(out, "Sheet");
+    }
+
+    /**
+     * @param out       输出流
+     * @param sheetName sheet名称，多个sheet时追加序号；excel不允许的字符替换为 _，超出31个字符时截断
+     */
+    public XlsxStreamWriter(OutputStream out, String sheetName) {
+        this.zip = new ZipStreamWriter(out);
+        this.sheetName = sanitizeSheetName(sheetName);
+    }
+
+    /**
+     * 替换excel不允许的字符，去掉首尾的单引号，长度在写出时按序号截断
+     */
+    private static String sanitizeSheetName(String sheetName) {
+        StringBuilder name = new StringBuilder(sheetName == null ? 0 : sheetName.length());
+        if (sheetName != null) {
+            for (int i = 0; i < sheetName.length(); i++) {
+                char c = sheetName.charAt(i);
+                name.append(INVALID_SHEET_CHARS.indexOf(c) >= 0 || c < 0x20 ? '_' : c);
+            }
+        }
+        while (name.length() > 0 && name.charAt(0) == '\'') {
+            name.deleteCharAt(0);
+        }
+        while (name.length() > 0 && name.charAt(name.length() - 1) == '\'') {
+            name.setLength(name.length() - 1);
+        }
+        return name.length() == 0 ? "Sheet" : name.toString();
+    }
+
+    /**
+     * 第index个sheet的名称，多个sheet时追加序号，总长度不超过 {@link #MAX_SHEET_NAME}
+     */
+    private String sheetName(int index) {
+        String suffix = sheetCount == 1 ? "" : String.valueOf(index);
+        String name = sheetName;
+        if (name.length() + suffix.length() > MAX_SHEET_NAME) {
+            int end = MAX_SHEET_NAME - suffix.length();
+            // 不截断在代理对中间
+            if (Character.isHighSurrogate(name.charAt(end - 1))) {
+                end--;
+            }
+            name = name.substring(0, end);
+        }
+        return name + suffix;
+    }
+
+    /**
+     * 设置表头，每个sheet的第一行
+     *
+     * @param headers 表头
+     * @return this
+     */
+    public XlsxStreamWriter headers(List<String> headers) {
+        this.headers = headers;
+        return this;
+    }
+
+    /**
+     * 写出所有行
+     *
+     * @param rows 行数据
+     * @return 写出的行数（不含表头）
+     * @throws IOException 写出异常
+     */
+    public long writeRows(Stream<? extends Iterable<?>> rows) throws IOException {
+        return writeRows(rows.iterator());
+    }
+
+    /**
+     * 写出所有行
+     *
+     * @param rows 行数据
+     * @return 写出的行数（不含表头）
+     * @throws IOException 写出异常
+     */
+    public long writeRows(Iterator<? extends Iterable<?>> rows) throws IOException {
+        long count = 0;
+        while (rows.hasNext()) {
+            writeRow(rows.next());
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * 写出一行
+     *
+     * @param cells 单元格，支持数字、布尔、日期，其余按字符串写出，null为空单元格
+     * @throws IOException 写出异常
+     */
+    public void writeRow(Iterable<?> cells) throws IOException {
+        if (sheet == null || rowIndex == MAX_ROWS) {
+            nextSheet();
+        }
+        appendRow(cells);
+    }
+
+    private void nextSheet() throws IOException {
+        closeSheet();
+        sheetCount++;
+        rowIndex = 0;
+        sheet = new BufferedWriter(new OutputStreamWriter(
+                zip.openEntry("xl/worksheets/sheet" + sheetCount + ".xml"), StandardCharsets.UTF_8), BUFFER_SIZE);
+        sheet.write(SHEET_START);
+        if (headers != null) {
+            appendRow(headers);
+        }
+    }
+
+    private void appendRow(Iterable<?> cells) throws IOException {
+        rowIndex++;
+        sheet.write("<row r=\"");
+        sheet.write(Integer.toString(rowIndex));
+        sheet.write("\">");
+        for (Object cell : cells) {
+            appendCell(cell);
+        }
+        sheet.write("</row>");
+    }
+
+    private void appendCell(Object value) throws IOException {
+        if (value == null) {
+            sheet.write("<c/>");
+            return;
+        }
+        if (value instanceof Number && isFinite((Number) value)) {
+            sheet.write("<c><v>");
+            sheet.write(value.toString());
+            sheet.write("</v></c>");
+            return;
+        }
+        if (value instanceof Boolean) {
+            sheet.write((Boolean) value ? "<c t=\"b\"><v>1</v></c>" : "<c t=\"b\"><v>0</v></c>");
+            return;
+        }
+
+        sheet.write("<c t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+        escape(format(value), sheet);
+        sheet.write("</t></is></c>");
+    }
+
+    private static boolean isFinite(Number value) {
+        if (value instanceof Double || value instanceof Float) {
+            double doubleValue = value.doubleValue();
+            return !Double.isNaN(doubleValue) && !Double.isInfinite(doubleValue);
+        }
+        return true;
+    }
+
+    private static String format(Object value) {
+        if (value instanceof Date) {
+            return DatePattern.NORM_DATETIME_FORMATTER.format(((Date) value).toInstant().atZone(ZoneId.systemDefault()));
+        }
+        if (value instanceof LocalDateTime) {
+            return DatePattern.NORM_DATETIME_FORMATTER.format((TemporalAccessor) value);
+        }
+        if (value instanceof LocalDate) {
+            return DatePattern.NORM_DATE_FORMATTER.format((TemporalAccessor) value);
+        }
+        return value.toString();
+    }
+
+    /**
+     * xml转义（单元格文本和属性值通用），并去掉xml不允许的控制字符
+     */
+    private static void escape(String value, Writer sheet) throws IOException {
+        int length = value.length();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            String replacement;
+            if (c == '&') {
+                replacement = "&amp;";
+            } else if (c == '<') {
+                replacement = "&lt;";
+            } else if (c == '>') {
+                replacement = "&gt;";
+            } else if (c == '"') {
+                replacement = "&quot;";
+            } else if (c < 0x20 && c != '\t' && c != '\n' && c != '\r') {
+                replacement = "";
+            } else {
+                continue;
+            }
+            sheet.write(value, start, i - start);
+            sheet.write(replacement);
+            start = i + 1;
+        }
+        sheet.write(value, start, length - start);
+    }
+
+    private void closeSheet() throws IOException {
+        if (sheet != null) {
+            sheet.write(SHEET_END);
+            sheet.close();
+            sheet = null;
+        }
+    }
+
+    /**
+     * 写出工作簿结构并结束压缩包
+     *
+     * @throws IOException 写出异常
+     */
+    public void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        if (sheetCount == 0) {
+            // 没有数据也要有一个sheet
+            nextSheet();
+        }
+        closeSheet();
+
+        StringBuilder contentTypes = new StringBuilder(XML_HEADER)
+                .append("<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">")
+                .append("<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>")
+                .append("<Default Extension=\"xml\" ContentType=\"application/xml\"/>")
+                .append("<Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>")
+                .append("<Override PartName=\"/xl/styles.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml\"/>");
+        StringBuilder workbook = new StringBuilder(XML_HEADER)
+                .append("<workbook xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"")
+                .append(" xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\"><sheets>");
+        StringBuilder workbookRels = new StringBuilder(XML_HEADER)
+                .append("<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">");
+        for (int i = 1; i <= sheetCount; i++) {
+            contentTypes.append("<Override PartName=\"/xl/worksheets/sheet").append(i)
+                    .append(".xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>");
+            StringWriter name = new StringWriter(MAX_SHEET_NAME);
+            escape(sheetName(i), name);
+            workbook.append("<sheet name=\"").append(name)
+                    .append("\" sheetId=\"").append(i).append("\" r:id=\"rId").append(i).append("\"/>");
+            workbookRels.append("<Relationship Id=\"rId").append(i)
+                    .append("\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet\" Target=\"worksheets/sheet")
+                    .append(i).append(".xml\"/>");
+        }
+        contentTypes.append("</Types>");
+        workbook.append("</sheets></workbook>");
+        workbookRels.append("<Relationship Id=\"rId").append(sheetCount + 1)
+                .append("\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/styles\" Target=\"styles.xml\"/>")
+                .append("</Relationships>");
+
+        putXml("[Content_Types].xml", contentTypes);
+        putXml("_rels/.rels", new StringBuilder(XML_HEADER)
+                .append("<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">")
+                .append("<Relationship Id=\"rId1\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument\" Target=\"xl/workbook.xml\"/>")
+                .append("</Relationships>"));
+        putXml("xl/workbook.xml", workbook);
+        putXml("xl/_rels/workbook.xml.rels", workbookRels);
+        putXml("xl/styles.xml", new StringBuilder(XML_HEADER)
+                .append("<styleSheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\">")
+                .append("<fonts count=\"1\"><font><sz val=\"11\"/><name val=\"Calibri\"/></font></fonts>")
+                .append("<fills count=\"2\"><fill><patternFill patternType=\"none\"/></fill><fill><patternFill patternType=\"gray125\"/></fill></fills>")
+                .append("<borders count=\"1\"><border><left/><right/><top/><bottom/><diagonal/></border></borders>")
+                .append("<cellStyleXfs count=\"1\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\"/></cellStyleXfs>")
+                .append("<cellXfs count=\"1\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\"/></cellXfs>")
+                .append("</styleSheet>"));
+        zip.finish();
+    }
+
+    private void putXml(String name, CharSequence xml) throws IOException {
+        zip.putEntry(name, xml.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            finish();
+        } finally {
+            zip.close();
+        }
+    }
+}
@@ -0,0 +1,629 @@
+package project.core.utils;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+
+/**
+ * 流式ZIP写出
+ * <p>
+ * 条目一边生成一边写到输出流，不在内存或临时文件中拼装整个压缩包：
+ * <ul>
+ *     <li>不超过 maxBufferedEntrySize 的条目在线程池中并行压缩，按添加顺序写出</li>
+ *     <li>更大或大小未知的条目在当前线程边读边压缩，使用数据描述符</li>
+ *     <li>jpg、zip、xlsx 等已压缩的文件不再压缩</li>
+ * </ul>
+ * 内存占用上限约为 parallelism * maxBufferedEntrySize * 2，与压缩包大小无关（中央目录每个条目几十字节除外）。
+ * 写出时不设置Content-Length，由容器使用chunked传输
+ *
+ * @author tanwei
+ * @date 2026-10-18 14:50
+ **/
+public class ZipStreamWriter implements Closeable {
+
+    /**
+     * 默认可缓冲并行压缩的条目大小
+     */
+    public static final int DEFAULT_BUFFERED_ENTRY_SIZE = 4 * 1024 * 1024;
+
+    private static final int LOCAL_HEADER_SIG = 0x04034b50;
+    private static final int DATA_DESCRIPTOR_SIG = 0x08074b50;
+    private static final int CENTRAL_HEADER_SIG = 0x02014b50;
+    private static final int ZIP64_END_SIG = 0x06064b50;
+    private static final int ZIP64_LOCATOR_SIG = 0x07064b50;
+    private static final int END_SIG = 0x06054b50;
+
+    private static final int FLAG_DATA_DESCRIPTOR = 0x0008;
+    private static final int FLAG_UTF8 = 0x0800;
+    private static final int VERSION_DEFAULT = 20;
+    private static final int VERSION_ZIP64 = 45;
+    private static final int ZIP64_EXTRA_ID = 0x0001;
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+    private static final int ZIP64_MAGIC_COUNT = 0xFFFF;
+
+    /**
+     * 已压缩的文件类型
+     */
+    private static final Set<String> COMPRESSED_SUFFIXES = new HashSet<>(Arrays.asList(
+            "zip", "gz", "tgz", "bz2", "xz", "7z", "rar", "jar", "war",
+            "xlsx", "docx", "pptx", "jpg", "jpeg", "png", "gif", "webp",
+            "mp3", "mp4", "avi", "mov", "mkv", "pdf"));
+
+    private final CountingOutputStream out;
+
+    private final Executor executor;
+
+    private final int level;
+
+    private final int parallelism;
+
+    private final int maxBufferedEntrySize;
+
+    /**
+     * 并行压缩中的条目，按添加顺序
+     */
+    private final Deque<CompletableFuture<Entry>> pending = new ArrayDeque<>();
+
+    /**
+     * 已写出的条目，用于生成中央目录
+     */
+    private final List<Entry> entries = new ArrayList<>();
+
+    private final byte[] header = new byte[64];
+
+    private boolean finished;
+
+    /**
+     * 正在写入的流式条目
+     */
+    private EntryOutputStream current;
+
+    public ZipStreamWriter(OutputStream out) {
+        this(out, ForkJoinPool.commonPool(), Deflater.DEFAULT_COMPRESSION,
+                Runtime.getRuntime().availableProcessors(), DEFAULT_BUFFERED_ENTRY_SIZE);
+    }
+
+    /**
+     * @param out                  输出流
+     * @param executor             压缩线程池
+     * @param level                压缩级别
+     * @param parallelism          最多同时压缩的条目数
+     * @param maxBufferedEntrySize 可缓冲并行压缩的最大条目大小
+     */
+    public ZipStreamWriter(OutputStream out, Executor executor, int level, int parallelism, int maxBufferedEntrySize) {
+        this.out = new CountingOutputStream(out);
+        this.executor = executor;
+        this.level = level;
+        this.parallelism = Math.max(1, parallelism);
+        this.maxBufferedEntrySize = maxBufferedEntrySize;
+    }
+
+    /**
+     * 添加条目，数据交给线程池压缩
+     *
+     * @param name 条目名称
+     * @param data 数据
+     * @throws IOException 写出异常
+     */
+    public void putEntry(String name, byte[] data) throws IOException {
+        putEntry(name, data, System.currentTimeMillis());
+    }
+
+    /**
+     * 添加条目，数据交给线程池压缩
+     *
+     * @param name 条目名称
+     * @param data 数据
+     * @param time 修改时间（毫秒）
+     * @throws IOException 写出异常
+     */
+    public void putEntry(String name, byte[] data, long time) throws IOException {
+        checkOpen();
+        boolean store = isCompressed(name);
+        long dosTime = dosTime(time);
+        pending.add(CompletableFuture.supplyAsync(() -> compress(name, data, store, dosTime), executor));
+        drain(parallelism);
+    }
+
+    /**
+     * 添加文件，小文件并行压缩，大文件流式压缩
+     *
+     * @param name 条目名称
+     * @param path 文件
+     * @throws IOException 读取或写出异常
+     */
+    public void putEntry(String name, Path path) throws IOException {
+        long time = Files.getLastModifiedTime(path).toMillis();
+        if (Files.size(path) <= maxBufferedEntrySize) {
+            putEntry(name, Files.readAllBytes(path), time);
+            return;
+        }
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            putEntry(name, inputStream, time);
+        }
+    }
+
+    /**
+     * 添加大小未知的条目，在当前线程边读边压缩，不关闭输入流
+     *
+     * @param name        条目名称
+     * @param inputStream 输入流
+     * @throws IOException 读取或写出异常
+     */
+    public void putEntry(String name, InputStream inputStream) throws IOException {
+        putEntry(name, inputStream, System.currentTimeMillis());
+    }
+
+    /**
+     * 添加大小未知的条目，在当前线程边读边压缩，不关闭输入流
+     *
+     * @param name        条目名称
+     * @param inputStream 输入流
+     * @param time        修改时间（毫秒）
+     * @throws IOException 读取或写出异常
+     */
+    public void putEntry(String name, InputStream inputStream, long time) throws IOException {
+        try (OutputStream outputStream = openEntry(name, time)) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+        }
+    }
+
+    /**
+     * 打开一个流式条目，写入的数据在当前线程边写边压缩，关闭返回的输出流即结束该条目
+     *
+     * @param name 条目名称
+     * @return 条目输出流
+     * @throws IOException 写出异常
+     */
+    public OutputStream openEntry(String name) throws IOException {
+        return openEntry(name, System.currentTimeMillis());
+    }
+
+    /**
+     * 打开一个流式条目，写入的数据在当前线程边写边压缩，关闭返回的输出流即结束该条目
+     *
+     * @param name 条目名称
+     * @param time 修改时间（毫秒）
+     * @return 条目输出流
+     * @throws IOException 写出异常
+     */
+    public OutputStream openEntry(String name, long time) throws IOException {
+        checkOpen();
+        // 保证条目顺序
+        drain(0);
+
+        // 已压缩的数据使用不压缩的deflate块，仅做拷贝；STORED需要事先知道大小和crc
+        Entry entry = new Entry(name, ZipEntry.DEFLATED, FLAG_UTF8 | FLAG_DATA_DESCRIPTOR, dosTime(time));
+        entry.offset = out.count;
+        writeLocalHeader(entry);
+        current = new EntryOutputStream(entry, new Deflater(isCompressed(name) ? Deflater.NO_COMPRESSION : level, true));
+        return current;
+    }
+
+    /**
+     * 写出中央目录，不关闭输出流
+     *
+     * @throws IOException 写出异常
+     */
+    public void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        if (current != null) {
+            current.close();
+        }
+        drain(0);
+        finished = true;
+
+        long centralOffset = out.count;
+        for (Entry entry : entries) {
+            writeCentralHeader(entry);
+        }
+        long centralSize = out.count - centralOffset;
+        writeEnd(centralOffset, centralSize);
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            finish();
+        } finally {
+            pending.forEach(future -> future.cancel(false));
+            out.close();
+        }
+    }
+
+    /**
+     * 写出已完成的条目，直到剩余未完成数量不超过max
+     */
+    private void drain(int max) throws IOException {
+        while (pending.size() > max) {
+            Entry entry;
+            try {
+                entry = pending.poll().join();
+            } catch (CompletionException e) {
+                throw new IOException("ZIP条目压缩失败", e.getCause());
+            }
+            entry.offset = out.count;
+            writeLocalHeader(entry);
+            out.write(entry.data, 0, entry.dataLength);
+            entry.data = null;
+            entries.add(entry);
+        }
+    }
+
+    /**
+     * 压缩线程中执行
+     */
+    private Entry compress(String name, byte[] data, boolean store, long dosTime) {
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length);
+
+        Entry entry = new Entry(name, store ? ZipEntry.STORED : ZipEntry.DEFLATED, FLAG_UTF8, dosTime);
+        entry.crc = crc.getValue();
+        entry.size = data.length;
+        if (store) {
+            entry.data = data;
+            entry.dataLength = data.length;
+            entry.compressedSize = data.length;
+            return entry;
+        }
+
+        Deflater deflater = new Deflater(level, true);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            byte[] output = new byte[Math.max(64, data.length / 2)];
+            int length = 0;
+            while (!deflater.finished()) {
+                if (length == output.length) {
+                    output = Arrays.copyOf(output, output.length * 2);
+                }
+                length += deflater.deflate(output, length, output.length - length);
+            }
+            entry.data = output;
+            entry.dataLength = length;
+            entry.compressedSize = length;
+        } finally {
+            deflater.end();
+        }
+        return entry;
+    }
+
+    private int deflate(Deflater deflater, byte[] output) throws IOException {
+        int length = deflater.deflate(output, 0, output.length);
+        out.write(output, 0, length);
+        return length;
+    }
+
+    private void writeLocalHeader(Entry entry) throws IOException {
+        boolean descriptor = (entry.flags & FLAG_DATA_DESCRIPTOR) != 0;
+        int position = 0;
+        position = putInt(header, position, LOCAL_HEADER_SIG);
+        position = putShort(header, position, VERSION_DEFAULT);
+        position = putShort(header, position, entry.flags);
+        position = putShort(header, position, entry.method);
+        position = putInt(header, position, entry.dosTime);
+        position = putInt(header, position, descriptor ? 0 : entry.crc);
+        position = putInt(header, position, descriptor ? 0 : entry.compressedSize);
+        position = putInt(header, position, descriptor ? 0 : entry.size);
+        position = putShort(header, position, entry.name.length);
+        position = putShort(header, position, 0);
+        out.write(header, 0, position);
+        out.write(entry.name);
+    }
+
+    /**
+     * 与ZipOutputStream一致，超过4G时使用8字节的大小
+     */
+    private void writeDataDescriptor(Entry entry) throws IOException {
+        int position = 0;
+        position = putInt(header, position, DATA_DESCRIPTOR_SIG);
+        position = putInt(header, position, entry.crc);
+        if (entry.size >= ZIP64_MAGIC || entry.compressedSize >= ZIP64_MAGIC) {
+            position = putLong(header, position, entry.compressedSize);
+            position = putLong(header, position, entry.size);
+        } else {
+            position = putInt(header, position, entry.compressedSize);
+            position = putInt(header, position, entry.size);
+        }
+        out.write(header, 0, position);
+    }
+
+    private void writeCentralHeader(Entry entry) throws IOException {
+        boolean zip64Size = entry.size >= ZIP64_MAGIC;
+        boolean zip64CompressedSize = entry.compressedSize >= ZIP64_MAGIC;
+        boolean zip64Offset = entry.offset >= ZIP64_MAGIC;
+        int extraLength = (zip64Size ? 8 : 0) + (zip64CompressedSize ? 8 : 0) + (zip64Offset ? 8 : 0);
+        boolean zip64 = extraLength > 0;
+
+        int position = 0;
+        position = putInt(header, position, CENTRAL_HEADER_SIG);
+        position = putShort(header, position, zip64 ? VERSION_ZIP64 : VERSION_DEFAULT);
+        position = putShort(header, position, zip64 ? VERSION_ZIP64 : VERSION_DEFAULT);
+        position = putShort(header, position, entry.flags);
+        position = putShort(header, position, entry.method);
+        position = putInt(header, position, entry.dosTime);
+        position = putInt(header, position, entry.crc);
+        position = putInt(header, position, zip64CompressedSize ? ZIP64_MAGIC : entry.compressedSize);
+        position = putInt(header, position, zip64Size ? ZIP64_MAGIC : entry.size);
+        position = putShort(header, position, entry.name.length);
+        position = putShort(header, position, zip64 ? extraLength + 4 : 0);
+        // 注释长度、起始磁盘、内部属性、外部属性
+        position = putShort(header, position, 0);
+        position = putShort(header, position, 0);
+        position = putShort(header, position, 0);
+        position = putInt(header, position, 0);
+        position = putInt(header, position, zip64Offset ? ZIP64_MAGIC : entry.offset);
+        out.write(header, 0, position);
+        out.write(entry.name);
+
+        if (zip64) {
+            position = 0;
+            position = putShort(header, position, ZIP64_EXTRA_ID);
+            position = putShort(header, position, extraLength);
+            if (zip64Size) {
+                position = putLong(header, position, entry.size);
+            }
+            if (zip64CompressedSize) {
+                position = putLong(header, position, entry.compressedSize);
+            }
+            if (zip64Offset) {
+                position = putLong(header, position, entry.offset);
+            }
+            out.write(header, 0, position);
+        }
+    }
+
+    private void writeEnd(long centralOffset, long centralSize) throws IOException {
+        int count = entries.size();
+        boolean zip64 = count >= ZIP64_MAGIC_COUNT || centralOffset >= ZIP64_MAGIC || centralSize >= ZIP64_MAGIC;
+        int position;
+        if (zip64) {
+            long zip64EndOffset = out.count;
+            position = 0;
+            position = putInt(header, position, ZIP64_END_SIG);
+            // 记录剩余长度
+            position = putLong(header, position, 44);
+            position = putShort(header, position, VERSION_ZIP64);
+            position = putShort(header, position, VERSION_ZIP64);
+            position = putInt(header, position, 0);
+            position = putInt(header, position, 0);
+            position = putLong(header, position, count);
+            position = putLong(header, position, count);
+            position = putLong(header, position, centralSize);
+            position = putLong(header, position, centralOffset);
+            out.write(header, 0, position);
+
+            position = 0;
+            position = putInt(header, position, ZIP64_LOCATOR_SIG);
+            position = putInt(header, position, 0);
+            position = putLong(header, position, zip64EndOffset);
+            position = putInt(header, position, 1);
+            out.write(header, 0, position);
+        }
+
+        position = 0;
+        position = putInt(header, position, END_SIG);
+        position = putShort(header, position, 0);
+        position = putShort(header, position, 0);
+        position = putShort(header, position, Math.min(count, ZIP64_MAGIC_COUNT));
+        position = putShort(header, position, Math.min(count, ZIP64_MAGIC_COUNT));
+        position = putInt(header, position, Math.min(centralSize, ZIP64_MAGIC));
+        position = putInt(header, position, Math.min(centralOffset, ZIP64_MAGIC));
+        position = putShort(header, position, 0);
+        out.write(header, 0, position);
+    }
+
+    private void checkOpen() throws IOException {
+        if (finished) {
+            throw new IOException("ZIP已写出中央目录，不能再添加条目");
+        }
+        if (current != null) {
+            throw new IOException("上一个流式条目未关闭");
+        }
+    }
+
+    /**
+     * 是否为已压缩的文件类型
+     *
+     * @param name 条目名称
+     * @return 是否已压缩
+     */
+    public static boolean isCompressed(String name) {
+        String suffix = FileUtil.getSuffix(name);
+        return StrUtil.isNotEmpty(suffix) && COMPRESSED_SUFFIXES.contains(suffix.toLowerCase());
+    }
+
+    private static long dosTime(long time) {
+        LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(time), ZoneId.systemDefault());
+        if (dateTime.getYear() < 1980) {
+            return (1 << 21) | (1 << 16);
+        }
+        return (long) (dateTime.getYear() - 1980) << 25
+                | (long) dateTime.getMonthValue() << 21
+                | (long) dateTime.getDayOfMonth() << 16
+                | (long) dateTime.getHour() << 11
+                | (long) dateTime.getMinute() << 5
+                | (long) dateTime.getSecond() >> 1;
+    }
+
+    private static int putShort(byte[] buffer, int position, int value) {
+        buffer[position] = (byte) value;
+        buffer[position + 1] = (byte) (value >>> 8);
+        return position + 2;
+    }
+
+    private static int putInt(byte[] buffer, int position, long value) {
+        buffer[position] = (byte) value;
+        buffer[position + 1] = (byte) (value >>> 8);
+        buffer[position + 2] = (byte) (value >>> 16);
+        buffer[position + 3] = (byte) (value >>> 24);
+        return position + 4;
+    }
+
+    private static int putLong(byte[] buffer, int position, long value) {
+        putInt(buffer, position, value);
+        putInt(buffer, position + 4, value >>> 32);
+        return position + 8;
+    }
+
+    /**
+     * ZIP条目
+     */
+    private static class Entry {
+
+        private final byte[] name;
+
+        private final int method;
+
+        private final int flags;
+
+        private final long dosTime;
+
+        private long crc;
+
+        private long size;
+
+        private long compressedSize;
+
+        private long offset;
+
+        /**
+         * 压缩后的数据，写出后置空
+         */
+        private byte[] data;
+
+        private int dataLength;
+
+        Entry(String name, int method, int flags, long dosTime) {
+            this.name = name.getBytes(StandardCharsets.UTF_8);
+            this.method = method;
+            this.flags = flags;
+            this.dosTime = dosTime;
+        }
+    }
+
+    /**
+     * 流式条目输出流
+     */
+    private class EntryOutputStream extends OutputStream {
+
+        private final Entry entry;
+
+        private final Deflater deflater;
+
+        private final CRC32 crc = new CRC32();
+
+        private final byte[] output = new byte[8192];
+
+        private long size;
+
+        private long compressedSize;
+
+        private boolean closed;
+
+        EntryOutputStream(Entry entry, Deflater deflater) {
+            this.entry = entry;
+            this.deflater = deflater;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (closed) {
+                throw new IOException("条目已关闭");
+            }
+            if (len == 0) {
+                return;
+            }
+            crc.update(b, off, len);
+            size += len;
+            deflater.setInput(b, off, len);
+            while (!deflater.needsInput()) {
+                compressedSize += deflate(deflater, output);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            current = null;
+            try {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    compressedSize += deflate(deflater, output);
+                }
+            } finally {
+                deflater.end();
+            }
+
+            entry.crc = crc.getValue();
+            entry.size = size;
+            entry.compressedSize = compressedSize;
+            writeDataDescriptor(entry);
+            entries.add(entry);
+        }
+    }
+
+    /**
+     * 记录已写出字节数，用于计算条目偏移
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
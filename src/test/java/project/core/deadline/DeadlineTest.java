@@ -0,0 +1,68 @@
+package project.core.deadline;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import project.core.exception.BaseException;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 截止时间与时间轮
+ *
+ * @author tanwei
+ * @date 2026-10-19 16:30
+ **/
+class DeadlineTest {
+
+    private final DeadlineWheel wheel = new DeadlineWheel(1, TimeUnit.MILLISECONDS);
+
+    @AfterEach
+    void stop() {
+        wheel.stop();
+        Thread.interrupted();
+    }
+
+    @Test
+    void checkThrowsAfterExpiry() throws InterruptedException {
+        Deadline deadline = Deadline.after(5, TimeUnit.MILLISECONDS);
+        assertDoesNotThrow(deadline::check);
+        TimeUnit.MILLISECONDS.sleep(20);
+        assertTrue(deadline.isExpired());
+        assertThrows(BaseException.class, deadline::check);
+        assertTrue(deadline.remaining(TimeUnit.MILLISECONDS) == 0);
+    }
+
+    @Test
+    void wheelInterruptsBeforeDone() throws InterruptedException {
+        Deadline deadline = Deadline.afterInterruptibly(5, TimeUnit.MILLISECONDS);
+        wheel.schedule(deadline);
+        assertThrows(InterruptedException.class, () -> TimeUnit.SECONDS.sleep(5));
+        deadline.done();
+        assertTrue(deadline.isExpired());
+        assertFalse(deadline.isDone());
+    }
+
+    @Test
+    void doneBeforeExpiryIsNeverInterrupted() throws InterruptedException {
+        Deadline deadline = Deadline.afterInterruptibly(20, TimeUnit.MILLISECONDS);
+        wheel.schedule(deadline);
+        deadline.done();
+        assertTrue(deadline.isDone());
+        TimeUnit.MILLISECONDS.sleep(60);
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    void expireAfterDoneIsIgnored() {
+        Deadline deadline = Deadline.afterInterruptibly(1, TimeUnit.MINUTES);
+        deadline.done();
+        deadline.expire();
+        assertTrue(deadline.isDone());
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+}
@@ -0,0 +1,70 @@
+package project.core.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 自适应并发限制
+ *
+ * @author tanwei
+ * @date 2026-10-19 16:50
+ **/
+class ConcurrencyLimiterTest {
+
+    @Test
+    void shedsAboveLimit() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(2, 1, 10, 1, TimeUnit.SECONDS);
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(1, limiter.getShedCount());
+
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals(1, limiter.getInflight());
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    void growsWhileLatencyIsStable() throws InterruptedException {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(20, 5, 200, 1, TimeUnit.MILLISECONDS);
+        for (int i = 0; i < 50; i++) {
+            saturate(limiter, TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        assertTrue(limiter.getLimit() > 20, "limit " + limiter.getLimit());
+        assertTrue(limiter.getLimit() <= 200, "limit " + limiter.getLimit());
+    }
+
+    @Test
+    void shrinksWhenLatencyRisesButNotBelowMin() throws InterruptedException {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(50, 5, 200, 1, TimeUnit.MILLISECONDS);
+        for (int i = 0; i < 20; i++) {
+            saturate(limiter, TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        int stable = limiter.getLimit();
+        // 长期RTT逐渐跟上之前，梯度保持在下限0.5
+        for (int i = 0; i < 10; i++) {
+            saturate(limiter, TimeUnit.MILLISECONDS.toNanos(50));
+        }
+        assertTrue(limiter.getLimit() < stable, "limit " + limiter.getLimit() + " stable " + stable);
+        assertTrue(limiter.getLimit() >= 5, "limit " + limiter.getLimit());
+    }
+
+    /**
+     * 占满并发上限，跨过窗口后全部以相同耗时结束
+     */
+    private static void saturate(ConcurrencyLimiter limiter, long rttNanos) throws InterruptedException {
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        TimeUnit.MILLISECONDS.sleep(2);
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(rttNanos);
+        }
+    }
+}
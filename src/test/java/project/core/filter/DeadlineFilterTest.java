@@ -0,0 +1,110 @@
+package project.core.filter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import project.core.config.DeadlineProperties;
+import project.core.deadline.Deadline;
+import project.core.deadline.DeadlineWheel;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 请求截止时间过滤器
+ *
+ * @author tanwei
+ * @date 2026-10-19 16:40
+ **/
+class DeadlineFilterTest {
+
+    private final DeadlineWheel wheel = new DeadlineWheel(1, TimeUnit.MILLISECONDS);
+
+    @AfterEach
+    void stop() {
+        wheel.stop();
+    }
+
+    @Test
+    void zeroRouteTimeoutIsUnlimited() throws Exception {
+        DeadlineProperties properties = new DeadlineProperties();
+        properties.getRoutes().put("/export/**", 0L);
+        AtomicReference<Object> deadline = new AtomicReference<>();
+
+        MockHttpServletResponse response = filter(properties, request("", "/export/orders"), deadline, 0);
+
+        assertEquals(200, response.getStatus());
+        assertNull(deadline.get());
+    }
+
+    @Test
+    void headerZeroMeansAlreadyExpired() throws Exception {
+        MockHttpServletRequest request = request("", "/orders");
+        request.addHeader("X-Request-Timeout", "0");
+
+        MockHttpServletResponse response = filter(new DeadlineProperties(), request, new AtomicReference<>(), 0);
+
+        assertEquals(408, response.getStatus());
+    }
+
+    @Test
+    void routeMatchesPathWithinPathMappedServlet() throws Exception {
+        DeadlineProperties properties = new DeadlineProperties();
+        properties.getRoutes().put("/api/slow/**", 5L);
+        properties.getRoutes().put("/api/**", 60000L);
+
+        MockHttpServletResponse response = filter(properties, request("/api", "/slow/report"), new AtomicReference<>(), 50);
+
+        assertEquals(408, response.getStatus());
+    }
+
+    @Test
+    void defaultTimeoutAppliesWhenNoRouteMatches() throws Exception {
+        DeadlineProperties properties = new DeadlineProperties();
+        properties.setDefaultTimeout(60000);
+        AtomicReference<Object> deadline = new AtomicReference<>();
+
+        MockHttpServletResponse response = filter(properties, request("", "/orders"), deadline, 0);
+
+        assertEquals(200, response.getStatus());
+        assertNotNull(deadline.get());
+    }
+
+    /**
+     * @param servletPath DispatcherServlet的映射前缀，如 /api
+     * @param pathInfo    前缀之后的路径
+     */
+    private static MockHttpServletRequest request(String servletPath, String pathInfo) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", servletPath + pathInfo);
+        request.setServletPath(servletPath.isEmpty() ? pathInfo : servletPath);
+        request.setPathInfo(servletPath.isEmpty() ? null : pathInfo);
+        return request;
+    }
+
+    private MockHttpServletResponse filter(DeadlineProperties properties, MockHttpServletRequest request,
+                                           AtomicReference<Object> deadline, long sleepMillis) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+                deadline.set(req.getAttribute(Deadline.ATTRIBUTE));
+                try {
+                    TimeUnit.MILLISECONDS.sleep(sleepMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        new DeadlineFilter(properties, wheel).doFilter(request, response, new MockFilterChain(servlet));
+        return response;
+    }
+}
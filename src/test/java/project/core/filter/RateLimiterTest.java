@@ -0,0 +1,62 @@
+package project.core.filter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * GCRA 限流器
+ *
+ * @author tanwei
+ * @date 2026-10-19 16:20
+ **/
+class RateLimiterTest {
+
+    @Test
+    void allowsBurstThenRejects() {
+        RateLimiter limiter = new RateLimiter(1, 3, 1000);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("client"));
+        }
+        assertTrue(limiter.tryAcquire("client") > 0);
+        // 其它key不受影响
+        assertEquals(0, limiter.tryAcquire("other"));
+    }
+
+    @Test
+    void rejectedWaitIsBoundedByInterval() {
+        RateLimiter limiter = new RateLimiter(10, 1, 1000);
+        assertEquals(0, limiter.tryAcquire("client"));
+        long wait = limiter.tryAcquire("client");
+        assertTrue(wait > 0 && wait <= 100_000_000L, "wait " + wait);
+    }
+
+    @Test
+    void rejectsInvalidRateAndBurst() {
+        assertThrows(IllegalArgumentException.class, () -> new RateLimiter(0, 10, 1000));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimiter(-1, 10, 1000));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimiter(Double.NaN, 10, 1000));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimiter(10, 0, 1000));
+    }
+
+    @Test
+    void toleranceDoesNotOverflow() {
+        RateLimiter limiter = new RateLimiter(0.000001, Integer.MAX_VALUE, 1000);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(0, limiter.tryAcquire("client"));
+        }
+    }
+
+    @Test
+    void keyCountStaysBoundedUnderChurn() {
+        // 每个分段至少16个key，共64个分段
+        int maxKeys = 64 * 16;
+        RateLimiter limiter = new RateLimiter(1, 1, maxKeys);
+        for (int i = 0; i < 200_000; i++) {
+            limiter.tryAcquire("client-" + i);
+            assertTrue(limiter.size() <= maxKeys + 64, "size " + limiter.size());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package project.core.singleflight;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CancellationException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 合并请求的key与分组
+ *
+ * @author tanwei
+ * @date 2026-10-19 17:00
+ **/
+class SingleFlightInterceptorTest {
+
+    @Test
+    void differentEndpointsUnderPathMappedServletDoNotCollide() {
+        MockHttpServletRequest orders = request("/api", "/orders");
+        orders.addParameter("id", "1");
+        MockHttpServletRequest users = request("/api", "/users");
+        users.addParameter("id", "1");
+
+        assertNotEquals(SingleFlightInterceptor.key(orders), SingleFlightInterceptor.key(users));
+    }
+
+    @Test
+    void encodedSeparatorsDoNotCollide() {
+        MockHttpServletRequest single = request("", "/search");
+        single.addParameter("q", "x&y=z");
+        MockHttpServletRequest pair = request("", "/search");
+        pair.addParameter("q", "x");
+        pair.addParameter("y", "z");
+
+        assertNotEquals(SingleFlightInterceptor.key(single), SingleFlightInterceptor.key(pair));
+    }
+
+    @Test
+    void parameterOrderIsIgnoredButValueOrderIsKept() {
+        MockHttpServletRequest ab = request("", "/orders");
+        ab.addParameter("a", "1");
+        ab.addParameter("b", "2");
+        MockHttpServletRequest ba = request("", "/orders");
+        ba.addParameter("b", "2");
+        ba.addParameter("a", "1");
+        assertEquals(SingleFlightInterceptor.key(ab), SingleFlightInterceptor.key(ba));
+
+        MockHttpServletRequest nameThenTime = request("", "/orders");
+        nameThenTime.addParameter("sort", "name", "time");
+        MockHttpServletRequest timeThenName = request("", "/orders");
+        timeThenName.addParameter("sort", "time", "name");
+        assertNotEquals(SingleFlightInterceptor.key(nameThenTime), SingleFlightInterceptor.key(timeThenName));
+    }
+
+    @Test
+    void followerReceivesLeaderBody() throws Exception {
+        SingleFlightGroup group = new SingleFlightGroup();
+        SingleFlightGroup.Flight leader = group.join("k");
+        SingleFlightGroup.Flight follower = group.join("k");
+        assertTrue(leader.isLeader());
+        assertFalse(follower.isLeader());
+
+        byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+        leader.complete(new SingleFlightGroup.SharedBody(body, "application/json", false));
+        assertArrayEquals(body, follower.getResult().get().getBody());
+        assertEquals(0, group.size());
+        assertTrue(group.join("k").isLeader());
+    }
+
+    @Test
+    void abandonedFlightReleasesFollowers() {
+        SingleFlightGroup group = new SingleFlightGroup();
+        SingleFlightGroup.Flight leader = group.join("k");
+        SingleFlightGroup.Flight follower = group.join("k");
+
+        leader.abandon();
+        assertThrows(CancellationException.class, () -> follower.getResult().get());
+        assertEquals(0, group.size());
+    }
+
+    private static MockHttpServletRequest request(String servletPath, String pathInfo) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", servletPath + pathInfo);
+        request.setServletPath(servletPath.isEmpty() ? pathInfo : servletPath);
+        request.setPathInfo(servletPath.isEmpty() ? null : pathInfo);
+        return request;
+    }
+}
@@ -0,0 +1,72 @@
+package project.core.utils;
+
+import cn.hutool.core.util.StrUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 预编译模板与 StrUtil.format 的结果一致
+ *
+ * @author tanwei
+ * @date 2026-10-19 16:10
+ **/
+class MessageTemplateTest {
+
+    @Test
+    void formatsPlaceholders() {
+        assertEquals("用户 1 不存在", MessageTemplate.of("用户 {} 不存在").format(1));
+        assertEquals("a-b", MessageTemplate.of("{}-{}").format("a", "b"));
+        assertEquals("null", MessageTemplate.of("{}").format((Object) null));
+    }
+
+    @Test
+    void keepsPatternWithoutParams() {
+        assertEquals("用户 {} 不存在", MessageTemplate.of("用户 {} 不存在").format());
+        assertEquals("\\{}", MessageTemplate.of("\\{}").format());
+    }
+
+    @Test
+    void keepsEscapeAfterLastConsumedPlaceholder() {
+        assertEquals("A0}\\{}a", MessageTemplate.of("{}}\\{}a").format("A0"));
+        assertEquals("a\\A0\\{}", MessageTemplate.of("a\\\\{}\\{}").format("A0"));
+    }
+
+    @Test
+    void matchesHutoolForKnownPatterns() {
+        String[] patterns = {"{}", "\\{}", "\\\\{}", "{}\\{}", "\\{}{}", "{}{}{}", "a{b}c{}", "{}}{", "{{}}", "无占位符"};
+        for (String pattern : patterns) {
+            for (int count = 0; count <= 4; count++) {
+                Object[] params = params(count);
+                assertEquals(StrUtil.format(pattern, params), MessageTemplate.of(pattern).format(params),
+                        pattern + " 参数个数 " + count);
+            }
+        }
+    }
+
+    @Test
+    void matchesHutoolForRandomPatterns() {
+        String[] tokens = {"{}", "\\", "{", "}", "a", " "};
+        Random random = new Random(1);
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder pattern = new StringBuilder();
+            int length = 1 + random.nextInt(10);
+            for (int j = 0; j < length; j++) {
+                pattern.append(tokens[random.nextInt(tokens.length)]);
+            }
+            Object[] params = params(random.nextInt(5));
+            assertEquals(StrUtil.format(pattern, params), MessageTemplate.of(pattern.toString()).format(params),
+                    pattern + " 参数个数 " + params.length);
+        }
+    }
+
+    private static Object[] params(int count) {
+        Object[] params = new Object[count];
+        for (int i = 0; i < count; i++) {
+            params[i] = "A" + i;
+        }
+        return params;
+    }
+}
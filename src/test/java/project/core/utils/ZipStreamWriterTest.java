@@ -0,0 +1,124 @@
+package project.core.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * ZIP写出，结果用JDK读取校验
+ *
+ * @author tanwei
+ * @date 2026-10-19 17:10
+ **/
+class ZipStreamWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void writesAllEntryKinds() throws IOException {
+        Map<String, byte[]> expected = new HashMap<>(8);
+        expected.put("text.txt", repeat("压缩文本", 10000));
+        expected.put("image.png", random(100000));
+        expected.put("empty.txt", new byte[0]);
+        expected.put("stream.csv", repeat("a,b,c\n", 50000));
+        expected.put("open.log", repeat("line\n", 20000));
+        Path file = tempDir.resolve("file.bin");
+        Files.write(file, random(300000));
+        expected.put("dir/file.bin", Files.readAllBytes(file));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipStreamWriter writer = new ZipStreamWriter(out)) {
+            writer.putEntry("text.txt", expected.get("text.txt"));
+            writer.putEntry("image.png", expected.get("image.png"));
+            writer.putEntry("empty.txt", expected.get("empty.txt"));
+            writer.putEntry("stream.csv", new ByteArrayInputStream(expected.get("stream.csv")));
+            try (OutputStream entry = writer.openEntry("open.log")) {
+                entry.write(expected.get("open.log"));
+            }
+            writer.putEntry("dir/file.bin", file);
+        }
+
+        Map<String, byte[]> actual = new HashMap<>(8);
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                actual.put(entry.getName(), readAll(zip));
+            }
+        }
+        assertEquals(expected.keySet(), actual.keySet());
+        expected.forEach((name, data) -> assertArrayEquals(data, actual.get(name), name));
+    }
+
+    @Test
+    void writesZip64WhenEntryCountExceeds65535() throws IOException {
+        int count = 70000;
+        Path zipFile = tempDir.resolve("many.zip");
+        // 小条目在当前线程压缩，避免7万个任务的调度开销
+        try (ZipStreamWriter writer = new ZipStreamWriter(new BufferedOutputStream(Files.newOutputStream(zipFile)),
+                Runnable::run, Deflater.BEST_SPEED, 1, ZipStreamWriter.DEFAULT_BUFFERED_ENTRY_SIZE)) {
+            for (int i = 0; i < count; i++) {
+                writer.putEntry("entry-" + i + ".txt", String.valueOf(i).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        try (ZipFile zip = new ZipFile(zipFile.toFile())) {
+            assertEquals(count, zip.size());
+            int checked = 0;
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                String index = entry.getName().substring("entry-".length(), entry.getName().length() - ".txt".length());
+                try (InputStream inputStream = zip.getInputStream(entry)) {
+                    assertEquals(index, new String(readAll(inputStream), StandardCharsets.UTF_8));
+                }
+                checked++;
+            }
+            assertEquals(count, checked);
+        }
+    }
+
+    private static byte[] repeat(String text, int times) {
+        StringBuilder builder = new StringBuilder(text.length() * times);
+        for (int i = 0; i < times; i++) {
+            builder.append(text);
+        }
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] random(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static byte[] readAll(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+}